@@ -0,0 +1,100 @@
+package com.springboot.security.product.application;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * 한 제품(한 행)에 동시에 재고 예약이 몰릴 때 처리량 비교 (32 스레드)
+ *
+ * - conditionalUpdate : update product set stock = stock - 1 where number = 1 and stock >= 1 (H2, autocommit)
+ *   -> 모든 요청이 같은 행의 row lock 을 두고 줄 섬
+ * - singleCounter : AtomicInteger 하나에 CAS (메모리지만 한 캐시 라인에 경합)
+ * - stripedCounter : StripedStockCounter (칸을 나누어 경합 분산)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(32)
+public class StockContentionBenchmark {
+
+    //측정 중에 재고가 바닥나지 않도록 충분히 크게 (반복마다 다시 채움)
+    private static final int STOCK = Integer.MAX_VALUE;
+
+    private HikariDataSource dataSource;
+    private AtomicInteger singleCounter;
+    private StripedStockCounter stripedCounter;
+
+    @Setup
+    public void setUp() throws SQLException {
+        HikariConfig config = new HikariConfig();
+        config.setJdbcUrl("jdbc:h2:mem:stock-bench;DB_CLOSE_DELAY=-1");
+        config.setMaximumPoolSize(32);
+        config.setMinimumIdle(32);
+        dataSource = new HikariDataSource(config);
+
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute("create table if not exists product (number bigint primary key, stock int not null)");
+            statement.execute("delete from product");
+            statement.execute("insert into product values (1, " + STOCK + ")");
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void refill() throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute("update product set stock = " + STOCK + " where number = 1");
+        }
+        singleCounter = new AtomicInteger(STOCK);
+        stripedCounter = new StripedStockCounter(STOCK, Runtime.getRuntime().availableProcessors());
+    }
+
+    @TearDown
+    public void tearDown() {
+        dataSource.close();
+    }
+
+    @Benchmark
+    public int conditionalUpdate() throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement update = connection.prepareStatement(
+                 "update product set stock = stock - ? where number = 1 and stock >= ?")) {
+            update.setInt(1, 1);
+            update.setInt(2, 1);
+            return update.executeUpdate();
+        }
+    }
+
+    @Benchmark
+    public boolean singleCounter() {
+        int current;
+        while ((current = singleCounter.get()) >= 1) {
+            if (singleCounter.compareAndSet(current, current - 1)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Benchmark
+    public StripedStockCounter.Result stripedCounter() {
+        return stripedCounter.tryReserve(1);
+    }
+}
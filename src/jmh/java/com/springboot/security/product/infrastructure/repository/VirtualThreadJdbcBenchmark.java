@@ -0,0 +1,115 @@
+package com.springboot.security.product.infrastructure.repository;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * 플랫폼 스레드 풀(Tomcat 기본 최대 200) vs 가상 스레드 - 느린 DB 상황에서 동시 요청 처리 시간 비교
+ *
+ * - 요청 하나 = 커넥션 획득 + product 조회 + dbLatencyMillis 동안 대기 (느린 쿼리 흉내)
+ * - requests 개의 요청을 한 번에 제출하고 모두 끝날 때까지의 시간 측정
+ * - DB 는 H2 인메모리, 커넥션 풀은 HikariCP
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class VirtualThreadJdbcBenchmark {
+
+    private static final int PLATFORM_THREADS = 200;
+    private static final int PRODUCTS = 1_000;
+
+    @Param({"platform", "virtual"})
+    public String threads;
+
+    @Param({"2000"})
+    public int requests;
+
+    @Param({"5"})
+    public int dbLatencyMillis;
+
+    @Param({"400"})
+    public int poolSize;
+
+    private HikariDataSource dataSource;
+    private ExecutorService executor;
+
+    @Setup
+    public void setUp() throws SQLException {
+        HikariConfig config = new HikariConfig();
+        config.setJdbcUrl("jdbc:h2:mem:vt-bench;DB_CLOSE_DELAY=-1");
+        config.setMaximumPoolSize(poolSize);
+        config.setMinimumIdle(poolSize);
+        dataSource = new HikariDataSource(config);
+
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute("create table if not exists product (number bigint primary key, name varchar(255), price int, stock int)");
+            statement.execute("delete from product");
+            try (PreparedStatement insert = connection.prepareStatement("insert into product values (?, ?, ?, ?)")) {
+                for (int i = 1; i <= PRODUCTS; i++) {
+                    insert.setLong(1, i);
+                    insert.setString(2, "product-" + i);
+                    insert.setInt(3, 1000);
+                    insert.setInt(4, 100);
+                    insert.addBatch();
+                }
+                insert.executeBatch();
+            }
+        }
+
+        executor = threads.equals("virtual")
+            ? Executors.newVirtualThreadPerTaskExecutor()
+            : Executors.newFixedThreadPool(PLATFORM_THREADS);
+    }
+
+    @TearDown
+    public void tearDown() {
+        executor.shutdownNow();
+        dataSource.close();
+    }
+
+    @Benchmark
+    public long concurrentRequests() throws Exception {
+        List<Future<Integer>> futures = new ArrayList<>(requests);
+        for (int i = 0; i < requests; i++) {
+            futures.add(executor.submit(this::selectProduct));
+        }
+        long sum = 0;
+        for (Future<Integer> future : futures) {
+            sum += future.get();
+        }
+        return sum;
+    }
+
+    private int selectProduct() throws SQLException, InterruptedException {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement select = connection.prepareStatement("select stock from product where number = ?")) {
+            select.setLong(1, ThreadLocalRandom.current().nextLong(1, PRODUCTS + 1));
+            try (ResultSet resultSet = select.executeQuery()) {
+                Thread.sleep(dbLatencyMillis);
+                return resultSet.next() ? resultSet.getInt(1) : 0;
+            }
+        }
+    }
+}
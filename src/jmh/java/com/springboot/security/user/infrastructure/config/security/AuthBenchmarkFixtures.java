@@ -0,0 +1,62 @@
+package com.springboot.security.user.infrastructure.config.security;
+
+import com.springboot.security.user.domain.entity.User;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+
+/**
+ * 벤치마크 공통 준비 객체
+ * - DB 대신 메모리 Map 으로 사용자 조회
+ * - 스프링 컨텍스트 없이 JwtTokenProvider 를 직접 생성/초기화
+ */
+final class AuthBenchmarkFixtures {
+
+    static final String SECRET = "around-hub-studio-flature-spring-boot-3!@#";
+    static final String UID = "bench-user";
+    static final List<String> ROLES = List.of("ROLE_USER");
+
+    private AuthBenchmarkFixtures() {
+    }
+
+    static UserDetailsService inMemoryUserDetailsService(String encodedPassword) {
+        Map<String, User> users = new ConcurrentHashMap<>();
+        users.put(UID, User.builder()
+            .id(1L)
+            .uid(UID)
+            .name("bench")
+            .password(encodedPassword)
+            .roles(ROLES)
+            .build());
+        return username -> {
+            User user = users.get(username);
+            if (user == null) {
+                throw new UsernameNotFoundException(username);
+            }
+            return user;
+        };
+    }
+
+    /**
+     * @param tokenCache : false 이면 캐시를 끔 - 다이제스트 계산 없이 매번 서명 검증 수행
+     */
+    static JwtTokenProvider tokenProvider(UserDetailsService userDetailsService, boolean tokenCache) {
+        return tokenProvider(userDetailsService, tokenCache, "HS256");
+    }
+
+    /**
+     * @param algorithm : HS256 | RS256 | ES256 (비대칭 키는 임시 키 쌍 생성)
+     */
+    static JwtTokenProvider tokenProvider(UserDetailsService userDetailsService, boolean tokenCache, String algorithm) {
+        VerifiedTokenCache verifiedTokenCache = new VerifiedTokenCache(tokenCache, 10_000, 300_000L);
+        SigningKeyRing signingKeyRing = new SigningKeyRing(SECRET, algorithm, "bench", "", "", "false", "");
+        TokenRevocationStore tokenRevocationStore = new TokenRevocationStore(1 << 20, 60_000L);
+        JwtTokenProvider jwtTokenProvider = new JwtTokenProvider(userDetailsService, verifiedTokenCache,
+            signingKeyRing, tokenRevocationStore, new AuthMetrics(new SimpleMeterRegistry()));
+        jwtTokenProvider.init();
+        return jwtTokenProvider;
+    }
+}
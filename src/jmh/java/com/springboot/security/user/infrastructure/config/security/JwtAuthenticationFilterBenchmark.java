@@ -0,0 +1,66 @@
+package com.springboot.security.user.infrastructure.config.security;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import java.io.IOException;
+import java.util.List;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+/**
+ * JwtAuthenticationFilter 한 번의 비용 (mock 서블릿 객체 사용)
+ * 사용자 저장소는 메모리 Map 으로 대체
+ * route=PUT 은 토큰 검증 경로, GET 은 공개 경로(GET /product) - PublicRouteTable 로 토큰 파싱 생략
+ * header=bearer 는 Authorization: Bearer 헤더 사용
+ */
+@State(Scope.Thread)
+public class JwtAuthenticationFilterBenchmark {
+
+    private static final FilterChain NO_OP_CHAIN = (request, response) -> { };
+
+    @Param({"true", "false"})
+    public boolean tokenCache;
+
+    @Param({"PUT", "GET"})
+    public String route;
+
+    @Param({"x-auth-token", "bearer"})
+    public String header;
+
+    private JwtAuthenticationFilter jwtAuthenticationFilter;
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+
+    @Setup
+    public void setUp() {
+        JwtTokenProvider jwtTokenProvider = AuthBenchmarkFixtures.tokenProvider(
+            AuthBenchmarkFixtures.inMemoryUserDetailsService("{noop}password"), tokenCache);
+        String token = jwtTokenProvider.createToken(AuthBenchmarkFixtures.UID, AuthBenchmarkFixtures.ROLES);
+
+        PublicRouteTable publicRouteTable = new PublicRouteTable();
+        publicRouteTable.setHandlerRoutes(
+            List.of(new PublicRouteTable.Route("GET", "/product")),
+            List.of(new PublicRouteTable.Route("GET", "/product/export")));
+        jwtAuthenticationFilter = new JwtAuthenticationFilter(jwtTokenProvider, publicRouteTable);
+        request = new MockHttpServletRequest(route, "/product");
+        if ("bearer".equals(header)) {
+            request.addHeader("Authorization", "Bearer " + token);
+        } else {
+            request.addHeader("X-AUTH-TOKEN", token);
+        }
+        response = new MockHttpServletResponse();
+    }
+
+    @Benchmark
+    public void doFilter() throws ServletException, IOException {
+        //shouldNotFilter 까지 포함하도록 doFilter 로 호출
+        jwtAuthenticationFilter.doFilter(request, response, NO_OP_CHAIN);
+        SecurityContextHolder.clearContext();
+    }
+}
@@ -0,0 +1,49 @@
+package com.springboot.security.user.infrastructure.config.security;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.security.core.Authentication;
+
+/**
+ * JwtTokenProvider 토큰 발급/검증 비용
+ * tokenCache=false 는 VerifiedTokenCache 를 끈 상태 (SHA-256 다이제스트 없이 매 호출마다 HMAC 검증 + 디코딩)
+ */
+@State(Scope.Benchmark)
+public class JwtTokenProviderBenchmark {
+
+    @Param({"true", "false"})
+    public boolean tokenCache;
+
+    private JwtTokenProvider jwtTokenProvider;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtTokenProvider = AuthBenchmarkFixtures.tokenProvider(
+            AuthBenchmarkFixtures.inMemoryUserDetailsService("{noop}password"), tokenCache);
+        token = jwtTokenProvider.createToken(AuthBenchmarkFixtures.UID, AuthBenchmarkFixtures.ROLES);
+    }
+
+    @Benchmark
+    public String createToken() {
+        return jwtTokenProvider.createToken(AuthBenchmarkFixtures.UID, AuthBenchmarkFixtures.ROLES);
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return jwtTokenProvider.validateToken(token);
+    }
+
+    @Benchmark
+    public String getUsername() {
+        return jwtTokenProvider.getUsername(token);
+    }
+
+    @Benchmark
+    public Authentication getAuthentication() {
+        return jwtTokenProvider.getAuthentication(token);
+    }
+}
@@ -0,0 +1,86 @@
+package com.springboot.security.user.infrastructure.config.security;
+
+import com.springboot.security.common.security.RequireRole;
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.function.Supplier;
+import org.aopalliance.intercept.MethodInvocation;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.method.PreAuthorizeAuthorizationManager;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.util.SimpleMethodInvocation;
+
+/**
+ * 메서드 인가 한 번의 비용 : @PreAuthorize("hasRole('ADMIN')") (SpEL) vs @RequireRole("ADMIN") (비트마스크)
+ * roles=ROLE_ADMIN 은 허용, ROLE_USER 는 거부되는 경우
+ * principal=token 은 JWT 필터가 만드는 TokenAuthentication, generic 은 이름 비교로 처리되는 일반 Authentication
+ */
+@State(Scope.Benchmark)
+public class MethodAuthorizationBenchmark {
+
+    @Param({"ROLE_ADMIN", "ROLE_USER"})
+    public String roles;
+
+    @Param({"token", "generic"})
+    public String principal;
+
+    private PreAuthorizeAuthorizationManager preAuthorizeManager;
+    private RequireRoleAuthorizationManager requireRoleManager;
+    private MethodInvocation preAuthorizeInvocation;
+    private MethodInvocation requireRoleInvocation;
+    private Supplier<Authentication> authentication;
+
+    @Setup
+    public void setUp() throws NoSuchMethodException {
+        Target target = new Target();
+        Method preAuthorizeMethod = Target.class.getMethod("preAuthorize");
+        Method requireRoleMethod = Target.class.getMethod("requireRole");
+        preAuthorizeInvocation = new SimpleMethodInvocation(target, preAuthorizeMethod);
+        requireRoleInvocation = new SimpleMethodInvocation(target, requireRoleMethod);
+
+        preAuthorizeManager = new PreAuthorizeAuthorizationManager();
+        requireRoleManager = new RequireRoleAuthorizationManager();
+        //애플리케이션에서는 프록시 생성 시 수행되는 단계
+        requireRoleManager.resolve(requireRoleMethod, Target.class);
+
+        AuthenticatedUser user = AuthenticatedUser.of(AuthBenchmarkFixtures.UID, List.of(roles));
+        Authentication value = "token".equals(principal)
+            ? new TokenAuthentication(user)
+            : UsernamePasswordAuthenticationToken.authenticated(user.uid(), "", user.authorities());
+        authentication = () -> value;
+
+        //두 방식의 판단 결과가 같은지 먼저 확인
+        boolean expected = "ROLE_ADMIN".equals(roles);
+        if (preAuthorize().isGranted() != expected || requireRole().isGranted() != expected) {
+            throw new IllegalStateException("인가 결과가 다릅니다 : " + roles + "/" + principal);
+        }
+    }
+
+    @Benchmark
+    public AuthorizationDecision preAuthorize() {
+        return preAuthorizeManager.check(authentication, preAuthorizeInvocation);
+    }
+
+    @Benchmark
+    public AuthorizationDecision requireRole() {
+        return requireRoleManager.check(authentication, requireRoleInvocation);
+    }
+
+    public static class Target {
+
+        @PreAuthorize("hasRole('ADMIN')")
+        public void preAuthorize() {
+        }
+
+        @RequireRole("ADMIN")
+        public void requireRole() {
+        }
+    }
+}
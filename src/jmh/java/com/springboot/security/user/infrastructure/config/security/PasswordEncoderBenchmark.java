@@ -0,0 +1,29 @@
+package com.springboot.security.user.infrastructure.config.security;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * SecurityConfiguration.passwordEncoder (DelegatingPasswordEncoder, 기본 bcrypt) 비교 비용
+ * 로그인 한 번에 matches 가 한 번 호출됨
+ */
+@State(Scope.Benchmark)
+public class PasswordEncoderBenchmark {
+
+    private PasswordEncoder passwordEncoder;
+    private String encodedPassword;
+
+    @Setup
+    public void setUp() {
+        passwordEncoder = new SecurityConfiguration(null, null).passwordEncoder();
+        encodedPassword = passwordEncoder.encode("password");
+    }
+
+    @Benchmark
+    public boolean matches() {
+        return passwordEncoder.matches("password", encodedPassword);
+    }
+}
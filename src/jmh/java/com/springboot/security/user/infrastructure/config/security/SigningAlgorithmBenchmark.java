@@ -0,0 +1,38 @@
+package com.springboot.security.user.infrastructure.config.security;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 서명 알고리즘별 서명(createToken)/검증(parseToken) 비용 비교
+ * 검증은 토큰 캐시를 끈 상태로 측정 (매번 서명 검증)
+ */
+@State(Scope.Benchmark)
+public class SigningAlgorithmBenchmark {
+
+    @Param({"HS256", "RS256", "ES256"})
+    public String algorithm;
+
+    private JwtTokenProvider jwtTokenProvider;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtTokenProvider = AuthBenchmarkFixtures.tokenProvider(
+            AuthBenchmarkFixtures.inMemoryUserDetailsService("{noop}password"), false, algorithm);
+        token = jwtTokenProvider.createToken(AuthBenchmarkFixtures.UID, AuthBenchmarkFixtures.ROLES);
+    }
+
+    @Benchmark
+    public String sign() {
+        return jwtTokenProvider.createToken(AuthBenchmarkFixtures.UID, AuthBenchmarkFixtures.ROLES);
+    }
+
+    @Benchmark
+    public VerifiedToken verify() {
+        return jwtTokenProvider.parseToken(token);
+    }
+}
@@ -0,0 +1,183 @@
+package com.springboot.security.common.cache;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * 크기 제한 + 항목별 만료 시각을 가지는 동시성 캐시
+ * <p>
+ * 특징:
+ * - ConcurrentHashMap 기반이라 조회에 락이 없음
+ * - 항목마다 만료 시각(expiresAtMillis)을 가짐 -> 조회 시 만료된 항목은 제거하고 miss 처리
+ * - maxSize 를 넘으면 만료된 항목부터 정리하고, 그래도 넘치면 임의의 항목을 제거해 90% 수준까지 줄임
+ * - hit/miss/eviction 카운터는 LongAdder 로 집계 (경합이 많아도 비용이 낮음)
+ * - getOrLoad : 같은 키에 대한 동시 miss 는 한 번의 원본 조회로 합침 (나머지는 그 결과를 기다림)
+ *   조회 중에 invalidate 되면 조회 결과를 캐시에 남기지 않음 (오래된 값이 다시 들어가는 것 방지)
+ */
+public class BoundedExpiringCache<K, V> {
+
+    private final ConcurrentHashMap<K, Entry<V>> entries = new ConcurrentHashMap<>();
+    //원본 조회가 진행 중인 키
+    private final ConcurrentHashMap<K, CompletableFuture<V>> loading = new ConcurrentHashMap<>();
+    private final int maxSize;
+    private final int trimSize;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder loads = new LongAdder();
+    private final LongAdder loadNanos = new LongAdder();
+    //정리 작업은 한 스레드만 수행
+    private final AtomicBoolean trimming = new AtomicBoolean();
+
+    public BoundedExpiringCache(int maxSize) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("maxSize must be positive : " + maxSize);
+        }
+        this.maxSize = maxSize;
+        this.trimSize = Math.max(1, maxSize - Math.max(1, maxSize / 10));
+    }
+
+    public V get(K key) {
+        return get(key, System.currentTimeMillis());
+    }
+
+    public V get(K key, long nowMillis) {
+        Entry<V> entry = entries.get(key);
+        if (entry == null) {
+            misses.increment();
+            return null;
+        }
+        if (entry.isExpired(nowMillis)) {
+            //만료된 항목은 제거 (그 사이 다른 값으로 바뀌었으면 건드리지 않음)
+            if (entries.remove(key, entry)) {
+                evictions.increment();
+            }
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return entry.value();
+    }
+
+    /**
+     * @param expiresAtMillis : 이 시각이 지나면 캐시에서 제거됨
+     */
+    public void put(K key, V value, long expiresAtMillis) {
+        putEntry(key, value, expiresAtMillis);
+    }
+
+    /**
+     * 캐시에 있으면 반환하고, 없으면 loader 로 조회해 ttlMillis 동안 보관
+     * 같은 키로 동시에 들어온 miss 는 먼저 들어온 스레드의 조회 결과를 함께 사용
+     * loader 가 null 을 반환하면 캐시하지 않음
+     */
+    public V getOrLoad(K key, Function<? super K, ? extends V> loader, long ttlMillis) {
+        V cached = get(key);
+        if (cached != null) {
+            return cached;
+        }
+        CompletableFuture<V> future = new CompletableFuture<>();
+        CompletableFuture<V> inFlight = loading.putIfAbsent(key, future);
+        if (inFlight != null) {
+            return await(inFlight);
+        }
+        try {
+            long start = System.nanoTime();
+            V loaded = loader.apply(key);
+            loadNanos.add(System.nanoTime() - start);
+            loads.increment();
+            if (loaded != null) {
+                Entry<V> entry = putEntry(key, loaded, System.currentTimeMillis() + ttlMillis);
+                //조회하는 동안 invalidate 되었으면 방금 넣은 값은 오래된 값일 수 있으므로 제거
+                if (loading.get(key) != future) {
+                    entries.remove(key, entry);
+                }
+            }
+            future.complete(loaded);
+            return loaded;
+        } catch (RuntimeException e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            loading.remove(key, future);
+        }
+    }
+
+    //진행 중인 조회도 함께 무효화 (loading 먼저 제거해야 조회 스레드가 무효화를 알아챔)
+    public void invalidate(K key) {
+        loading.remove(key);
+        entries.remove(key);
+    }
+
+    public void invalidateAll() {
+        loading.clear();
+        entries.clear();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public CacheStats stats() {
+        return new CacheStats(hits.sum(), misses.sum(), evictions.sum(), entries.size(),
+            loads.sum(), loadNanos.sum());
+    }
+
+    private Entry<V> putEntry(K key, V value, long expiresAtMillis) {
+        Entry<V> entry = new Entry<>(value, expiresAtMillis);
+        entries.put(key, entry);
+        if (entries.size() > maxSize) {
+            trim(System.currentTimeMillis());
+        }
+        return entry;
+    }
+
+    private V await(CompletableFuture<V> inFlight) {
+        try {
+            return inFlight.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    //1. 만료된 항목 제거 2. 그래도 넘치면 순회 순서대로 trimSize 까지 제거
+    private void trim(long nowMillis) {
+        if (!trimming.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            Iterator<Map.Entry<K, Entry<V>>> iterator = entries.entrySet().iterator();
+            while (iterator.hasNext()) {
+                if (iterator.next().getValue().isExpired(nowMillis)) {
+                    iterator.remove();
+                    evictions.increment();
+                }
+            }
+            iterator = entries.entrySet().iterator();
+            while (entries.size() > trimSize && iterator.hasNext()) {
+                iterator.next();
+                iterator.remove();
+                evictions.increment();
+            }
+        } finally {
+            trimming.set(false);
+        }
+    }
+
+    private record Entry<V>(V value, long expiresAtMillis) {
+
+        boolean isExpired(long nowMillis) {
+            return expiresAtMillis <= nowMillis;
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.springboot.security.common.cache;
+
+/**
+ * 캐시 통계 스냅샷
+ *
+ * @param hits      : 캐시에서 바로 찾은 횟수
+ * @param misses    : 캐시에 없어서(또는 만료되어) 찾지 못한 횟수
+ * @param evictions : 만료/크기 초과로 제거된 항목 수
+ * @param size      : 현재 항목 수
+ * @param loads     : getOrLoad 로 원본을 조회한 횟수 (동시에 들어온 miss는 한 번으로 합쳐짐)
+ * @param loadNanos : 원본 조회에 걸린 시간 합계
+ */
+public record CacheStats(
+    long hits,
+    long misses,
+    long evictions,
+    int size,
+    long loads,
+    long loadNanos
+) {
+
+    public double hitRatio() {
+        long requests = hits + misses;
+        return requests == 0 ? 0.0 : (double) hits / requests;
+    }
+
+    public double averageLoadMillis() {
+        return loads == 0 ? 0.0 : loadNanos / 1_000_000.0 / loads;
+    }
+}
@@ -0,0 +1,12 @@
+package com.springboot.security.common.json;
+
+/**
+ * 직접 작성한 JSON 인코딩을 가진 응답 객체
+ * JsonEncodableHttpMessageConverter 가 Jackson(리플렉션) 대신 toJsonBytes() 결과를 그대로 응답에 기록
+ * 필드 이름/순서/null 표기는 Jackson 으로 직렬화했을 때와 같게 유지해야 함
+ */
+public interface JsonEncodable {
+
+    //UTF-8 로 인코딩된 JSON
+    byte[] toJsonBytes();
+}
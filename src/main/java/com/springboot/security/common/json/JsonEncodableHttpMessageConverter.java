@@ -0,0 +1,44 @@
+package com.springboot.security.common.json;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+
+/**
+ * JsonEncodable 응답을 toJsonBytes() 그대로 기록 (쓰기 전용)
+ * Jackson 컨버터보다 앞에 등록해야 함 (WebMvcConfiguration)
+ * 목록 안에 든 객체 등 그 외 응답은 기존처럼 Jackson 이 처리
+ */
+public class JsonEncodableHttpMessageConverter extends AbstractHttpMessageConverter<JsonEncodable> {
+
+    public JsonEncodableHttpMessageConverter() {
+        super(StandardCharsets.UTF_8, MediaType.APPLICATION_JSON, new MediaType("application", "*+json"));
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return JsonEncodable.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    public boolean canRead(Class<?> clazz, MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected JsonEncodable readInternal(Class<? extends JsonEncodable> clazz, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("JsonEncodable 은 요청 본문으로 읽을 수 없습니다.", inputMessage);
+    }
+
+    //본문을 쓰기 전까지는 헤더를 바꿀 수 있으므로 인코딩은 한 번만 하고 길이를 여기서 지정
+    @Override
+    protected void writeInternal(JsonEncodable value, HttpOutputMessage outputMessage) throws IOException {
+        byte[] json = value.toJsonBytes();
+        outputMessage.getHeaders().setContentLength(json.length);
+        outputMessage.getBody().write(json);
+    }
+}
@@ -0,0 +1,54 @@
+package com.springboot.security.common.json;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+
+/**
+ * JSON 문자열 이스케이프 (직접 작성하는 JSON 인코더에서 공통으로 사용)
+ * null 이면 null 리터럴
+ */
+public final class JsonStrings {
+
+    private JsonStrings() {
+    }
+
+    public static void appendQuoted(StringBuilder builder, String value) {
+        try {
+            quote(builder, value);
+        } catch (IOException e) {
+            //StringBuilder 는 IOException 을 던지지 않음
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public static void writeQuoted(Writer writer, String value) throws IOException {
+        quote(writer, value);
+    }
+
+    private static void quote(Appendable out, String value) throws IOException {
+        if (value == null) {
+            out.append("null");
+            return;
+        }
+        out.append('"');
+        int start = 0;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            String escaped = switch (c) {
+                case '"' -> "\\\"";
+                case '\\' -> "\\\\";
+                case '\n' -> "\\n";
+                case '\r' -> "\\r";
+                case '\t' -> "\\t";
+                default -> c < 0x20 ? String.format("\\u%04x", (int) c) : null;
+            };
+            if (escaped != null) {
+                out.append(value, start, i).append(escaped);
+                start = i + 1;
+            }
+        }
+        out.append(value, start, value.length());
+        out.append('"');
+    }
+}
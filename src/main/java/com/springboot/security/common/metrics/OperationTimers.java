@@ -0,0 +1,53 @@
+package com.springboot.security.common.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * enum 상수마다 Timer 를 미리 등록해 두고 ordinal 로 꺼내 쓰는 타이머 묶음
+ * 호출 시 태그 조회/Timer.Sample/람다 생성이 없어서 요청 경로에서 객체를 만들지 않음
+ *
+ * 사용법)
+ *   long start = System.nanoTime();
+ *   try { ... } finally { timers.record(Operation.SELECT, start); }
+ *
+ * 태그 "method" 값은 상수 이름을 camelCase 로 바꾼 값 (SELECT_PRODUCT -> selectProduct)
+ */
+public final class OperationTimers<E extends Enum<E>> {
+
+    private final Timer[] timers;
+
+    public OperationTimers(MeterRegistry meterRegistry, String name, String description,
+        Class<E> operations, String tagKey, String tagValue) {
+        E[] constants = operations.getEnumConstants();
+        this.timers = new Timer[constants.length];
+        for (E operation : constants) {
+            timers[operation.ordinal()] = Timer.builder(name)
+                .description(description)
+                .tag(tagKey, tagValue)
+                .tag("method", toMethodName(operation.name()))
+                .register(meterRegistry);
+        }
+    }
+
+    //startNanos : 시작 시각 (System.nanoTime)
+    public void record(E operation, long startNanos) {
+        timers[operation.ordinal()].record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private static String toMethodName(String constant) {
+        StringBuilder builder = new StringBuilder(constant.length());
+        boolean upper = false;
+        for (int i = 0; i < constant.length(); i++) {
+            char c = constant.charAt(i);
+            if (c == '_') {
+                upper = true;
+                continue;
+            }
+            builder.append(upper ? c : Character.toLowerCase(c));
+            upper = false;
+        }
+        return builder.toString();
+    }
+}
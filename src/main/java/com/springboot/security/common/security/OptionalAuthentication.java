@@ -0,0 +1,18 @@
+package com.springboot.security.common.security;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 공개(permitAll) 경로지만 토큰이 있으면 인증 정보를 쓰고 싶은 핸들러에 붙임
+ * 공개 경로는 기본적으로 JwtAuthenticationFilter 가 토큰을 파싱하지 않음 (PublicRouteTable 참고)
+ * @RequireRole 이 붙은 핸들러는 이 애노테이션 없이도 토큰을 파싱함
+ */
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface OptionalAuthentication {
+}
@@ -0,0 +1,22 @@
+package com.springboot.security.common.security;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 역할 기반 메서드 권한 검사 - @PreAuthorize("hasAnyRole(...)") 대체
+ * SpEL 을 호출마다 평가하지 않고, 애플리케이션 시작 시 권한 비트마스크로 한 번만 변환해 둠
+ * 의미는 hasAnyRole 과 동일 : 나열한 역할 중 하나라도 있으면 허용, "ROLE_" 접두사는 없으면 붙임
+ *
+ * 예) @RequireRole("ADMIN") == @PreAuthorize("hasRole('ADMIN')")
+ */
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface RequireRole {
+
+    String[] value();
+}
@@ -0,0 +1,100 @@
+package com.springboot.security.config;
+
+import com.springboot.security.common.cache.CacheStats;
+import com.springboot.security.product.application.ProductSnapshotCache;
+import com.springboot.security.user.infrastructure.config.security.PasswordHashingExecutor;
+import com.springboot.security.user.infrastructure.config.security.VerifiedTokenCache;
+import com.springboot.security.user.infrastructure.repository.UserPrincipalCache;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.function.Function;
+import javax.sql.DataSource;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 상태 지표 등록 (/actuator/prometheus)
+ * 요청 경로의 타이머/카운터는 AuthMetrics, OperationTimers 에서 등록하고,
+ * 여기서는 스크레이프할 때만 값을 읽는 게이지/함수 카운터만 등록 (요청 처리 비용 없음)
+ *
+ * - jdbc.pool.saturation : 사용 중 커넥션 / 최대 커넥션 (hikaricp.connections.* 는 스프링 부트가 등록)
+ * - cache.*              : product-snapshot, verified-token, user-principal 캐시 적중/제거/크기
+ * - password.hashing.*   : BCrypt 실행기 대기열/실행 중/거절 수
+ */
+@Configuration
+public class MetricsConfiguration {
+
+    @Bean
+    public MeterBinder jdbcPoolSaturationMetrics(DataSource dataSource) {
+        return meterRegistry -> {
+            if (!(dataSource instanceof HikariDataSource hikariDataSource)) {
+                return;
+            }
+            Gauge.builder("jdbc.pool.saturation", hikariDataSource, MetricsConfiguration::poolSaturation)
+                .description("사용 중 커넥션 / 최대 커넥션 (1 이면 새 요청은 connection-timeout 까지 대기)")
+                .tag("pool", String.valueOf(hikariDataSource.getPoolName()))
+                .register(meterRegistry);
+        };
+    }
+
+    @Bean
+    public MeterBinder cacheMetrics(ProductSnapshotCache productSnapshotCache,
+                                    VerifiedTokenCache verifiedTokenCache,
+                                    UserPrincipalCache userPrincipalCache) {
+        return meterRegistry -> {
+            bindCache(meterRegistry, "product-snapshot", productSnapshotCache, ProductSnapshotCache::stats);
+            bindCache(meterRegistry, "verified-token", verifiedTokenCache, VerifiedTokenCache::stats);
+            bindCache(meterRegistry, "user-principal", userPrincipalCache, UserPrincipalCache::stats);
+        };
+    }
+
+    @Bean
+    public MeterBinder passwordHashingMetrics(PasswordHashingExecutor passwordHashingExecutor) {
+        return meterRegistry -> {
+            Gauge.builder("password.hashing.queue", passwordHashingExecutor, executor -> executor.stats().queueDepth())
+                .description("대기 중인 비밀번호 해시 작업 수")
+                .register(meterRegistry);
+            Gauge.builder("password.hashing.active", passwordHashingExecutor, executor -> executor.stats().active())
+                .description("실행 중인 비밀번호 해시 작업 수")
+                .register(meterRegistry);
+            FunctionCounter.builder("password.hashing.rejected", passwordHashingExecutor,
+                    executor -> executor.stats().rejected())
+                .description("대기열이 가득 차거나 시간 초과로 거절된 요청 수")
+                .register(meterRegistry);
+        };
+    }
+
+    //풀이 아직 시작되지 않았으면 NaN
+    private static double poolSaturation(HikariDataSource dataSource) {
+        HikariPoolMXBean pool = dataSource.getHikariPoolMXBean();
+        int maximumPoolSize = dataSource.getMaximumPoolSize();
+        if (pool == null || maximumPoolSize <= 0) {
+            return Double.NaN;
+        }
+        return (double) pool.getActiveConnections() / maximumPoolSize;
+    }
+
+    //미터는 측정 대상을 약한 참조로 들고 있으므로 람다가 아닌 캐시 빈 자체를 대상으로 등록
+    private static <T> void bindCache(MeterRegistry meterRegistry, String name, T cache,
+                                      Function<T, CacheStats> stats) {
+        FunctionCounter.builder("cache.gets", cache, target -> stats.apply(target).hits())
+            .tag("cache", name).tag("result", "hit")
+            .register(meterRegistry);
+        FunctionCounter.builder("cache.gets", cache, target -> stats.apply(target).misses())
+            .tag("cache", name).tag("result", "miss")
+            .register(meterRegistry);
+        FunctionCounter.builder("cache.evictions", cache, target -> stats.apply(target).evictions())
+            .tag("cache", name)
+            .register(meterRegistry);
+        FunctionCounter.builder("cache.loads", cache, target -> stats.apply(target).loads())
+            .tag("cache", name)
+            .register(meterRegistry);
+        Gauge.builder("cache.size", cache, target -> stats.apply(target).size())
+            .tag("cache", name)
+            .register(meterRegistry);
+    }
+}
@@ -0,0 +1,17 @@
+package com.springboot.security.config;
+
+import com.springboot.security.common.json.JsonEncodableHttpMessageConverter;
+import java.util.List;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+public class WebMvcConfiguration implements WebMvcConfigurer {
+
+    //직접 인코딩하는 응답(JsonEncodable)은 Jackson 보다 먼저 처리
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.add(0, new JsonEncodableHttpMessageConverter());
+    }
+}
@@ -0,0 +1,203 @@
+package com.springboot.security.product.application;
+
+import com.springboot.security.product.domain.repository.ProductRepository;
+import jakarta.annotation.PreDestroy;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 인기 제품(hot SKU) 재고를 메모리 카운터로 처리하고 DB 에는 모아서 반영 (write-behind)
+ * <p>
+ * - 등록된 제품만 사용 (spring.product.stock.hot-numbers 또는 관리자 API)
+ * - 예약/반환은 StripedStockCounter 에서 처리 -> 한 행의 row lock 을 두고 요청들이 줄 서지 않음
+ * - flush-millis 마다 쌓인 차감량을 update 한 문장으로 반영
+ * <p>
+ * 등록/해제와 DB 경로의 배제 (제품 number 별 읽기/쓰기 락, 칸을 나눠 고정 개수만 사용)
+ * - DB 경로 예약/반환(runOnDatabase)은 읽기 락 -> 서로는 막지 않음
+ * - enable : 쓰기 락 -> 진행 중인 DB 차감이 모두 끝난 뒤 재고를 읽어 카운터 생성 (그 사이 새 DB 차감은 시작하지 못함)
+ * - disable : 쓰기 락 -> 카운터를 DRAINING 으로 닫고 남은 차감량을 조건부 update 로 반영한 뒤에만 카운터 제거
+ *   DRAINING 을 받은 요청은 읽기 락에서 해제가 끝나기를 기다렸다가 DB 로 처리 -> 오래된 DB 재고로 판매하지 않음
+ *   반영에 실패하면 카운터를 다시 열고 등록 상태 유지 (IllegalStateException)
+ * - DB 반영은 조건부 update (stock >= 차감량) -> DB 재고가 음수가 되지 않음
+ * <p>
+ * 주의 :
+ * - 등록된 동안에는 이 인스턴스가 재고의 기준 -> 여러 인스턴스로 운영할 때는 한 인스턴스에서만 등록해야 함
+ * - 종료 시 남은 차감량을 반영하지만, 비정상 종료 시 마지막 flush 이후의 차감은 DB 에 남지 않음
+ */
+@Component
+public class HotStockCounter {
+
+    private final Logger LOGGER = LoggerFactory.getLogger(HotStockCounter.class);
+
+    private final ProductRepository productRepository;
+    private final ProductSnapshotCache productSnapshotCache;
+    private final int stripes;
+    private final List<Long> initialHotNumbers;
+    private final ConcurrentHashMap<Long, StripedStockCounter> counters = new ConcurrentHashMap<>();
+    //등록/해제(쓰기) vs DB 경로(읽기) - number 별 락을 만들지 않도록 칸을 나눠 공유
+    private final ReentrantReadWriteLock[] transitionLocks = new ReentrantReadWriteLock[64];
+    //주기적 반영(flush)과 해제 시 마지막 반영이 같은 차감량을 동시에 가져가지 않도록
+    private final ReentrantLock drainLock = new ReentrantLock();
+
+    public HotStockCounter(ProductRepository productRepository,
+                           ProductSnapshotCache productSnapshotCache,
+                           @Value("${spring.product.stock.stripes:0}") int stripes,
+                           @Value("${spring.product.stock.hot-numbers:}") List<Long> initialHotNumbers) {
+        this.productRepository = productRepository;
+        this.productSnapshotCache = productSnapshotCache;
+        //0 이면 CPU 코어 수만큼
+        this.stripes = stripes > 0 ? stripes : Runtime.getRuntime().availableProcessors();
+        this.initialHotNumbers = initialHotNumbers;
+        for (int i = 0; i < transitionLocks.length; i++) {
+            transitionLocks[i] = new ReentrantReadWriteLock();
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void registerInitialHotNumbers() {
+        for (Long number : initialHotNumbers) {
+            try {
+                enable(number);
+            } catch (RuntimeException e) {
+                LOGGER.warn("[registerInitialHotNumbers] 등록 실패. number : {}, {}", number, e.getMessage());
+            }
+        }
+    }
+
+    //등록되지 않은 제품이면 null
+    StripedStockCounter find(Long number) {
+        return counters.get(number);
+    }
+
+    /**
+     * 등록되지 않은 제품의 DB 경로 예약/반환 - 등록/해제 중이면 끝날 때까지 기다림
+     * @return 기다리는 사이 등록되어 카운터로 다시 처리해야 하면 false (action 실행 안 함)
+     */
+    boolean runOnDatabase(Long number, Runnable action) {
+        Lock lock = transitionLock(number).readLock();
+        lock.lock();
+        try {
+            if (counters.containsKey(number)) {
+                return false;
+            }
+            action.run();
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    //현재 DB 재고로 카운터 생성 (이미 등록되어 있으면 그대로), 제품이 없으면 NoSuchElementException
+    public void enable(Long number) {
+        Lock lock = transitionLock(number).writeLock();
+        lock.lock();
+        try {
+            if (counters.containsKey(number)) {
+                return;
+            }
+            //DB 경로 차감이 모두 끝났고 새로 시작하지 못하는 동안 읽음 -> 이후 차감은 모두 카운터를 거침
+            counters.put(number, new StripedStockCounter(productRepository.selectStock(number), stripes));
+        } finally {
+            lock.unlock();
+        }
+        LOGGER.info("[enable] 인기 제품 재고 카운터 등록. number : {}", number);
+    }
+
+    //등록 해제 - 남은 차감량을 DB 에 반영한 뒤에만 DB 조건부 update 방식으로 돌아감, 반영 실패 시 IllegalStateException
+    public void disable(Long number) {
+        Lock lock = transitionLock(number).writeLock();
+        lock.lock();
+        try {
+            StripedStockCounter counter = counters.get(number);
+            if (counter == null) {
+                return;
+            }
+            drainLock.lock();
+            try {
+                //DRAINING 으로 닫고 마지막 차감량 수거 - 이후 요청은 이 쓰기 락이 풀릴 때까지 DB 경로에서 기다림
+                long decrease = counter.closeAndDrain();
+                if (!apply(number, decrease)) {
+                    counter.restorePending(decrease);
+                    counter.reopen();
+                    throw new IllegalStateException("재고를 반영하지 못해 인기 제품 등록을 해제하지 않았습니다 : " + number);
+                }
+            } finally {
+                drainLock.unlock();
+            }
+            counters.remove(number);
+        } finally {
+            lock.unlock();
+        }
+        LOGGER.info("[disable] 인기 제품 재고 카운터 해제. number : {}", number);
+    }
+
+    @Scheduled(fixedDelayString = "${spring.product.stock.flush-millis:200}")
+    public void flush() {
+        drainLock.lock();
+        try {
+            for (Map.Entry<Long, StripedStockCounter> entry : counters.entrySet()) {
+                flush(entry.getKey(), entry.getValue());
+            }
+        } finally {
+            drainLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        for (Long number : List.copyOf(counters.keySet())) {
+            try {
+                disable(number);
+            } catch (RuntimeException e) {
+                //카운터가 닫히지 않았으므로 남은 차감량은 DB 에 남지 않음
+                LOGGER.error("[shutdown] 마지막 재고 반영 실패, 수동 보정 필요. number : {}, {}", number, e.getMessage());
+            }
+        }
+    }
+
+    //drainLock 안에서만 호출
+    private void flush(Long number, StripedStockCounter counter) {
+        long decrease = counter.drainPending();
+        if (!apply(number, decrease)) {
+            //다음 주기에 다시 시도
+            counter.restorePending(decrease);
+        }
+    }
+
+    //DB 에 차감량 반영 (차감은 stock >= 차감량 일 때만), 실패하면 false
+    private boolean apply(Long number, long decrease) {
+        if (decrease == 0) {
+            return true;
+        }
+        try {
+            boolean applied = decrease > 0
+                ? productRepository.decreaseStockIfEnough(number, Math.toIntExact(decrease))
+                : productRepository.addStock(number, Math.toIntExact(-decrease));
+            if (!applied) {
+                //다른 경로(다른 인스턴스, 직접 수정 등)로 DB 재고가 카운터보다 줄었거나 제품이 삭제됨
+                LOGGER.error("[apply] DB 재고가 카운터와 맞지 않아 반영하지 못함. number : {}, decrease : {}", number, decrease);
+                return false;
+            }
+            productSnapshotCache.invalidate(number);
+            return true;
+        } catch (RuntimeException e) {
+            LOGGER.warn("[apply] 재고 반영 실패. number : {}, decrease : {}, {}", number, decrease, e.getMessage());
+            return false;
+        }
+    }
+
+    private ReentrantReadWriteLock transitionLock(Long number) {
+        return transitionLocks[Math.floorMod(number.hashCode(), transitionLocks.length)];
+    }
+}
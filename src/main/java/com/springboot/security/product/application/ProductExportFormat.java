@@ -0,0 +1,91 @@
+package com.springboot.security.product.application;
+
+import com.springboot.security.common.json.JsonStrings;
+import com.springboot.security.product.domain.repository.ProductSummary;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Locale;
+import lombok.Getter;
+
+/**
+ * 제품 내보내기 형식
+ * 행마다 ObjectMapper 를 거치지 않고 Writer 에 바로 기록 (필드가 고정이라 직접 작성)
+ */
+@Getter
+public enum ProductExportFormat {
+
+    //한 줄에 JSON 객체 하나
+    NDJSON("application/x-ndjson", "ndjson") {
+        @Override
+        public void writeHeader(Writer writer) {
+        }
+
+        @Override
+        public void writeRow(Writer writer, ProductSummary product) throws IOException {
+            writer.write("{\"number\":");
+            writer.write(String.valueOf(product.number()));
+            writer.write(",\"name\":");
+            JsonStrings.writeQuoted(writer, product.name());
+            writer.write(",\"price\":");
+            writer.write(String.valueOf(product.price()));
+            writer.write(",\"stock\":");
+            writer.write(String.valueOf(product.stock()));
+            writer.write("}\n");
+        }
+    },
+
+    //RFC 4180 (쉼표/따옴표/줄바꿈이 있는 값만 따옴표로 감쌈)
+    CSV("text/csv", "csv") {
+        @Override
+        public void writeHeader(Writer writer) throws IOException {
+            writer.write("number,name,price,stock\r\n");
+        }
+
+        @Override
+        public void writeRow(Writer writer, ProductSummary product) throws IOException {
+            writer.write(String.valueOf(product.number()));
+            writer.write(',');
+            writeCsvField(writer, product.name());
+            writer.write(',');
+            writer.write(String.valueOf(product.price()));
+            writer.write(',');
+            writer.write(String.valueOf(product.stock()));
+            writer.write("\r\n");
+        }
+    };
+
+    private final String contentType;
+    private final String extension;
+
+    ProductExportFormat(String contentType, String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+
+    public abstract void writeHeader(Writer writer) throws IOException;
+
+    public abstract void writeRow(Writer writer, ProductSummary product) throws IOException;
+
+    //ndjson | csv (대소문자 무시), 그 외는 IllegalArgumentException
+    public static ProductExportFormat from(String format) {
+        return valueOf(format.toUpperCase(Locale.ROOT));
+    }
+
+    private static void writeCsvField(Writer writer, String value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        boolean quote = false;
+        for (int i = 0; i < value.length() && !quote; i++) {
+            char c = value.charAt(i);
+            quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        if (!quote) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+}
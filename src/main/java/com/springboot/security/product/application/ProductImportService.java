@@ -0,0 +1,411 @@
+package com.springboot.security.product.application;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.springboot.security.product.domain.entity.Product;
+import com.springboot.security.product.presentation.dto.request.ProductDto;
+import com.springboot.security.product.presentation.dto.response.ImportRowErrorDto;
+import com.springboot.security.product.presentation.dto.response.ProductImportResultDto;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * 제품 가져오기 (CSV / NDJSON 업로드)
+ * <p>
+ * - 요청 스트림을 한 줄(행)씩 읽어서 처리 -> 파일 전체를 메모리에 올리지 않음
+ * - 한 행은 max-record-length 글자까지만 보관 -> 넘으면 그 행만 실패 처리하고 다음 줄부터 다시 읽음
+ *   (닫히지 않은 따옴표 하나나 줄바꿈 없는 거대한 줄이 메모리를 계속 차지하지 않도록)
+ * - Product.create 로 행마다 검증, 실패한 행은 줄 번호와 함께 기록
+ * - chunkSize 개가 모이면 ProductService.insertProductChunk 로 한 트랜잭션에 batch insert
+ * - back-pressure : chunk 를 저장하는 동안에는 읽지 않음
+ *   -> 요청 스레드가 DB 속도에 맞춰 읽고, 소켓 버퍼가 차면 TCP 흐름 제어로 클라이언트 전송이 느려짐
+ *   -> 메모리에는 읽는 중인 chunk 하나만 있음
+ */
+@Service
+public class ProductImportService {
+
+    private final Logger LOGGER = LoggerFactory.getLogger(ProductImportService.class);
+
+    private final ProductService productService;
+    private final ObjectReader productReader;
+    private final int chunkSize;
+    private final int maxErrors;
+    private final long progressLogRows;
+    private final int maxRecordLength;
+
+    public ProductImportService(ProductService productService,
+                                ObjectMapper objectMapper,
+                                @Value("${spring.product.bulk.chunk-size:500}") int chunkSize,
+                                @Value("${spring.product.import.max-errors:100}") int maxErrors,
+                                @Value("${spring.product.import.progress-log-rows:100000}") long progressLogRows,
+                                @Value("${spring.product.import.max-record-length:65536}") int maxRecordLength) {
+        this.productService = productService;
+        this.productReader = objectMapper.readerFor(ProductDto.class);
+        this.chunkSize = chunkSize;
+        this.maxErrors = maxErrors;
+        this.progressLogRows = progressLogRows;
+        this.maxRecordLength = maxRecordLength;
+    }
+
+    public ProductImportResultDto importProducts(ProductExportFormat format, InputStream inputStream) throws IOException {
+        LineReader reader = new LineReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8), maxRecordLength);
+        RowReader rowReader = format == ProductExportFormat.CSV ? new CsvRowReader(reader) : new NdjsonRowReader(reader);
+        Progress progress = new Progress(System.nanoTime());
+
+        List<Product> chunk = new ArrayList<>(chunkSize);
+        List<Long> chunkLines = new ArrayList<>(chunkSize);
+        Row row;
+        while ((row = rowReader.next()) != null) {
+            progress.rows++;
+            try {
+                if (row.error() != null) {
+                    throw new IllegalArgumentException(row.error());
+                }
+                chunk.add(row.product().toEntity());
+                chunkLines.add(row.line());
+            } catch (IllegalArgumentException e) {
+                progress.fail(row.line(), e.getMessage());
+            }
+
+            if (chunk.size() == chunkSize) {
+                saveChunk(chunk, chunkLines, progress);
+            }
+        }
+        if (!chunk.isEmpty()) {
+            saveChunk(chunk, chunkLines, progress);
+        }
+
+        long elapsedMillis = progress.elapsedMillis();
+        LOGGER.info("[importProducts] {} 가져오기 완료. rows : {}, succeeded : {}, failed : {}, {} ms, {} rows/s",
+            format, progress.rows, progress.succeeded, progress.failed, elapsedMillis, progress.rowsPerSecond());
+        return ProductImportResultDto.of(progress.rows, progress.succeeded, progress.failed,
+            progress.errors, progress.errorsTruncated, elapsedMillis);
+    }
+
+    //chunk 하나를 한 트랜잭션으로 저장, 실패하면 chunk 의 모든 행을 실패 처리 (다음 chunk 는 계속 진행)
+    private void saveChunk(List<Product> chunk, List<Long> chunkLines, Progress progress) {
+        try {
+            productService.insertProductChunk(chunk);
+            progress.succeeded += chunk.size();
+        } catch (RuntimeException e) {
+            LOGGER.warn("[importProducts] chunk 저장 실패. line {} ~ {}, {}",
+                chunkLines.get(0), chunkLines.get(chunkLines.size() - 1), e.getMessage());
+            for (Long line : chunkLines) {
+                progress.fail(line, "저장 실패 : " + e.getMessage());
+            }
+        }
+        chunk.clear();
+        chunkLines.clear();
+
+        //0 이하이면 진행 로그 끔
+        if (progressLogRows > 0 && progress.rows / progressLogRows != progress.loggedRows / progressLogRows) {
+            progress.loggedRows = progress.rows;
+            LOGGER.info("[importProducts] 진행 중. rows : {}, succeeded : {}, failed : {}, {} rows/s",
+                progress.rows, progress.succeeded, progress.failed, progress.rowsPerSecond());
+        }
+    }
+
+    //한 행을 읽은 결과 (product 또는 error 중 하나)
+    private record Row(long line, ProductDto product, String error) {
+    }
+
+    private interface RowReader {
+        //더 이상 행이 없으면 null
+        Row next() throws IOException;
+    }
+
+    //한 줄에 JSON 객체 하나 (빈 줄은 건너뜀)
+    private final class NdjsonRowReader implements RowReader {
+        private final LineReader reader;
+        private final StringBuilder line = new StringBuilder();
+        private long lineNumber;
+
+        private NdjsonRowReader(LineReader reader) {
+            this.reader = reader;
+        }
+
+        @Override
+        public Row next() throws IOException {
+            while (true) {
+                line.setLength(0);
+                if (!reader.readLine(line)) {
+                    return null;
+                }
+                lineNumber++;
+                if (reader.overflowed()) {
+                    return new Row(lineNumber, null, tooLong(reader));
+                }
+                if (isBlank(line)) {
+                    continue;
+                }
+                try {
+                    ProductDto product = productReader.readValue(line.toString());
+                    if (product == null) { //"null" 한 줄
+                        return new Row(lineNumber, null, "JSON 객체가 아닙니다 : null");
+                    }
+                    return new Row(lineNumber, product, null);
+                } catch (JsonProcessingException e) {
+                    return new Row(lineNumber, null, "JSON 형식 오류 : " + e.getOriginalMessage());
+                }
+            }
+        }
+    }
+
+    /**
+     * CSV (RFC 4180) - 첫 줄은 헤더, name/price/stock 열을 이름으로 찾음 (내보내기 파일의 number 열 등 다른 열은 무시)
+     * 따옴표 안의 줄바꿈은 같은 행으로 이어 읽음 (따옴표 상태는 새로 읽은 줄만 보고 이어서 계산)
+     * 행이 max-record-length 를 넘으면 그 행은 실패, 이어 읽기를 멈추고 다음 줄부터 새 행으로 읽음
+     */
+    private static final class CsvRowReader implements RowReader {
+        private final LineReader reader;
+        private final StringBuilder record = new StringBuilder();
+        private long lineNumber;
+        //마지막으로 읽은 행이 최대 길이를 넘었는지
+        private boolean tooLong;
+        private int nameIndex = -1;
+        private int priceIndex = -1;
+        private int stockIndex = -1;
+        private int columns;
+
+        private CsvRowReader(LineReader reader) throws IOException {
+            this.reader = reader;
+            readHeader();
+        }
+
+        private void readHeader() throws IOException {
+            String header = readRecord();
+            if (header == null) {
+                return;
+            }
+            if (tooLong) {
+                throw new IllegalArgumentException("CSV 헤더가 너무 깁니다 : " + tooLong(reader));
+            }
+            List<String> names = split(header);
+            columns = names.size();
+            for (int i = 0; i < names.size(); i++) {
+                switch (names.get(i).trim().toLowerCase(Locale.ROOT)) {
+                    case "name" -> nameIndex = i;
+                    case "price" -> priceIndex = i;
+                    case "stock" -> stockIndex = i;
+                    default -> {
+                    }
+                }
+            }
+            if (nameIndex < 0 || priceIndex < 0 || stockIndex < 0) {
+                throw new IllegalArgumentException("CSV 헤더에 name, price, stock 열이 필요합니다 : " + header);
+            }
+        }
+
+        @Override
+        public Row next() throws IOException {
+            String record;
+            long startLine;
+            do {
+                startLine = lineNumber + 1;
+                record = readRecord();
+                if (record == null) {
+                    return null;
+                }
+            } while (!tooLong && record.isBlank());
+
+            if (tooLong) {
+                return new Row(startLine, null, tooLong(reader));
+            }
+            List<String> fields = split(record);
+            if (fields.size() != columns) {
+                return new Row(startLine, null, "열 개수가 헤더와 다릅니다 : " + fields.size() + " / " + columns);
+            }
+            try {
+                ProductDto product = new ProductDto(fields.get(nameIndex),
+                    Integer.parseInt(fields.get(priceIndex).trim()),
+                    Integer.parseInt(fields.get(stockIndex).trim()));
+                return new Row(startLine, product, null);
+            } catch (NumberFormatException e) {
+                return new Row(startLine, null, "숫자 형식 오류 : " + e.getMessage());
+            }
+        }
+
+        //따옴표가 닫히지 않았으면 다음 줄까지 이어서 한 행으로 읽음 (최대 길이를 넘으면 tooLong)
+        private String readRecord() throws IOException {
+            record.setLength(0);
+            if (!reader.readLine(record)) {
+                return null;
+            }
+            lineNumber++;
+            tooLong = reader.overflowed();
+            boolean quoteOpen = toggleQuotes(record, 0, false);
+            while (quoteOpen && !tooLong) {
+                int start = record.length();
+                record.append('\n');
+                if (!reader.readLine(record)) {
+                    break;
+                }
+                lineNumber++;
+                tooLong = reader.overflowed();
+                quoteOpen = toggleQuotes(record, start, quoteOpen);
+            }
+            return record.toString();
+        }
+
+        //from 이후의 따옴표 개수로 열림 상태 갱신 ("" 는 두 번 바뀌므로 그대로)
+        private static boolean toggleQuotes(CharSequence text, int from, boolean open) {
+            for (int i = from; i < text.length(); i++) {
+                if (text.charAt(i) == '"') {
+                    open = !open;
+                }
+            }
+            return open;
+        }
+
+        private static List<String> split(String record) {
+            List<String> fields = new ArrayList<>();
+            StringBuilder field = new StringBuilder();
+            boolean quoted = false;
+            for (int i = 0; i < record.length(); i++) {
+                char c = record.charAt(i);
+                if (quoted) {
+                    if (c == '"' && i + 1 < record.length() && record.charAt(i + 1) == '"') {
+                        field.append('"');
+                        i++;
+                    } else if (c == '"') {
+                        quoted = false;
+                    } else {
+                        field.append(c);
+                    }
+                } else if (c == '"') {
+                    quoted = true;
+                } else if (c == ',') {
+                    fields.add(field.toString());
+                    field.setLength(0);
+                } else {
+                    field.append(c);
+                }
+            }
+            fields.add(field.toString());
+            return fields;
+        }
+    }
+
+    private static String tooLong(LineReader reader) {
+        return "행이 너무 깁니다 (최대 " + reader.maxLength() + "자)";
+    }
+
+    private static boolean isBlank(CharSequence text) {
+        for (int i = 0; i < text.length(); i++) {
+            if (!Character.isWhitespace(text.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 줄 단위 읽기 - BufferedReader.readLine 과 달리 한 행에 보관하는 글자 수에 상한이 있음
+     * 상한을 넘는 부분은 보관하지 않고 줄 끝(\n)까지 건너뜀 -> 다음 호출은 다음 줄부터
+     */
+    private static final class LineReader {
+        private final Reader reader;
+        private final int maxLength;
+        private final char[] buffer = new char[64 * 1024];
+        private int position;
+        private int limit;
+        private boolean overflowed;
+
+        private LineReader(Reader reader, int maxLength) {
+            this.reader = reader;
+            this.maxLength = maxLength;
+        }
+
+        /**
+         * 한 줄을 out 뒤에 이어 붙임 (줄 끝의 \r\n, \n 은 제외), out 전체가 maxLength 를 넘지 않도록 자름
+         * @return 입력이 끝나서 읽은 줄이 없으면 false
+         */
+        private boolean readLine(StringBuilder out) throws IOException {
+            overflowed = false;
+            boolean read = false;
+            while (true) {
+                if (position == limit) {
+                    limit = Math.max(0, reader.read(buffer));
+                    position = 0;
+                    if (limit == 0) {
+                        return read;
+                    }
+                }
+                read = true;
+                int start = position;
+                while (position < limit && buffer[position] != '\n') {
+                    position++;
+                }
+                int end = position;
+                boolean lineEnd = position < limit;
+                if (lineEnd) {
+                    position++;
+                }
+                int room = maxLength - out.length();
+                if (end - start > room) {
+                    overflowed = true;
+                    end = start + Math.max(0, room);
+                }
+                out.append(buffer, start, end - start);
+                if (lineEnd) {
+                    int last = out.length() - 1;
+                    if (!overflowed && last >= 0 && out.charAt(last) == '\r') {
+                        out.setLength(last);
+                    }
+                    return true;
+                }
+            }
+        }
+
+        private boolean overflowed() {
+            return overflowed;
+        }
+
+        private int maxLength() {
+            return maxLength;
+        }
+    }
+
+    //진행 상황 (요청 스레드 하나에서만 사용)
+    private final class Progress {
+        private final long startNanos;
+        private final List<ImportRowErrorDto> errors = new ArrayList<>();
+        private long rows;
+        private long succeeded;
+        private long failed;
+        private long loggedRows;
+        private boolean errorsTruncated;
+
+        private Progress(long startNanos) {
+            this.startNanos = startNanos;
+        }
+
+        private void fail(long line, String message) {
+            failed++;
+            if (errors.size() < maxErrors) {
+                errors.add(ImportRowErrorDto.of(line, message));
+            } else {
+                errorsTruncated = true;
+            }
+        }
+
+        private long elapsedMillis() {
+            return Math.max(1, (System.nanoTime() - startNanos) / 1_000_000);
+        }
+
+        private long rowsPerSecond() {
+            return rows * 1000 / elapsedMillis();
+        }
+    }
+}
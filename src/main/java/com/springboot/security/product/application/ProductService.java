@@ -2,18 +2,48 @@ package com.springboot.security.product.application;
 
 
 // ========== Domain ==========
+import com.springboot.security.common.cache.CacheStats;
 import com.springboot.security.product.domain.entity.Product;
+import com.springboot.security.product.domain.repository.ProductListCondition;
 import com.springboot.security.product.domain.repository.ProductRepository;
+import com.springboot.security.product.domain.repository.ProductSearchHit;
+import com.springboot.security.product.domain.repository.ProductSearchRepository;
+import com.springboot.security.product.domain.repository.ProductSummary;
 
 // ========== Application Layer DTOs ==========
+import com.springboot.security.product.presentation.dto.request.ChangeProductNameDto;
 import com.springboot.security.product.presentation.dto.request.ProductDto;
+import com.springboot.security.product.presentation.dto.response.BulkItemResultDto;
+import com.springboot.security.product.presentation.dto.response.BulkProductResultDto;
+import com.springboot.security.product.presentation.dto.response.ProductPageResponseDto;
 import com.springboot.security.product.presentation.dto.response.ProductResponseDto;
 
+// ========== Java ==========
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.function.Consumer;
+
 // ========== Framework ==========
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 
 /**
  * 애플리케이션 서비스
@@ -38,16 +68,113 @@ public class ProductService {
     //private final ProductRepository productRepository;
     //private final ProductJpaRepository productJpaRepository;
     private final ProductRepository productRepository;
+    //조회용 스냅샷 캐시 (등록/수정/삭제 시 함께 갱신)
+    private final ProductSnapshotCache productSnapshotCache;
+    //이름 검색 (DB 조회 없음)
+    private final ProductSearchRepository productSearchRepository;
+    //대량 처리 시 chunk 단위 트랜잭션
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${spring.product.bulk.chunk-size:500}")
+    private int bulkChunkSize = 500;
+
+    @Value("${spring.product.list.default-size:20}")
+    private int listDefaultSize = 20;
+
+    @Value("${spring.product.list.max-size:100}")
+    private int listMaxSize = 100;
+
+    @Value("${spring.product.search.max-limit:50}")
+    private int searchMaxLimit = 50;
 
+    //내보내기 시 이 행 수마다 응답 스트림을 flush (클라이언트가 바로 받기 시작하고, 버퍼가 커지지 않음)
+    @Value("${spring.product.export.flush-rows:1000}")
+    private int exportFlushRows = 1000;
+
+    //캐시에 있으면 DB 조회 없이 스냅샷 반환, 없으면 조회 후 캐시 (없는 제품은 NoSuchElementException, 캐시하지 않음)
     public ProductResponseDto getProduct(Long number) {
-        LOGGER.info("[getProduct] input number {}", number);
+        LOGGER.debug("[getProduct] input number {}", number);
         //Product product = productJpaRepository.findById(number).get();
-        Product product = productRepository.selectProduct(number);
-        LOGGER.info("[getProduct] product number : {}, name : {}", product.getName(), product.getName());
+        return productSnapshotCache.getOrLoad(number, this::loadProduct);
+    }
+
+    //캐시에 있을 때만 반환 (조건부 GET 에서 스냅샷의 수정 시각을 바로 사용)
+    public ProductResponseDto getCachedProduct(Long number) {
+        return productSnapshotCache.get(number);
+    }
 
+    //수정 시각(epoch millis, 모르면 -1)만 조회 - 엔티티를 불러오지 않음, 없는 제품은 NoSuchElementException
+    public long getLastModified(Long number) {
+        return ProductResponseDto.toEpochMillis(productRepository.selectUpdatedAt(number));
+    }
+
+    private ProductResponseDto loadProduct(Long number) {
+        Product product = productRepository.selectProduct(number);
+        LOGGER.info("[getProduct] product number : {}, name : {}", product.getNumber(), product.getName());
         return ProductResponseDto.from(product);
     }
 
+    /**
+     * keyset 목록 조회
+     * size + 1 개를 조회해서 다음 페이지가 있는지 판단 (빈 페이지를 한 번 더 요청하지 않도록)
+     */
+    public ProductPageResponseDto getProducts(ProductListCondition condition, Integer size) {
+        int limit = size == null ? listDefaultSize : Math.min(Math.max(size, 1), listMaxSize);
+        List<ProductSummary> summaries = productRepository.selectProducts(condition, limit + 1);
+        boolean hasNext = summaries.size() > limit;
+        return ProductPageResponseDto.of(hasNext ? summaries.subList(0, limit) : summaries, hasNext);
+    }
+
+    /**
+     * 전체 제품을 format 형식으로 outputStream 에 기록
+     * DB 커서에서 한 행씩 읽어 바로 기록하므로 메모리 사용량은 행 수와 무관
+     */
+    public long exportProducts(ProductExportFormat format, OutputStream outputStream) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8), 64 * 1024);
+        format.writeHeader(writer);
+
+        long start = System.nanoTime();
+        long rows;
+        try {
+            rows = productRepository.exportProducts(new Consumer<>() {
+                private long written;
+
+                @Override
+                public void accept(ProductSummary product) {
+                    try {
+                        format.writeRow(writer, product);
+                        //0 이하이면 중간 flush 없이 버퍼가 찰 때만 내보냄
+                        if (exportFlushRows > 0 && ++written % exportFlushRows == 0) {
+                            writer.flush();
+                        }
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }
+            });
+        } catch (UncheckedIOException e) {
+            //클라이언트 연결 끊김 등 - 커서/트랜잭션은 이미 정리됨
+            LOGGER.warn("[exportProducts] 내보내기 중단 : {}", e.getMessage());
+            throw e.getCause();
+        }
+        writer.flush();
+
+        long elapsedMillis = Math.max(1, (System.nanoTime() - start) / 1_000_000);
+        LOGGER.info("[exportProducts] {} 내보내기 완료. rows : {}, {} ms, {} rows/s",
+            format, rows, elapsedMillis, rows * 1000 / elapsedMillis);
+        return rows;
+    }
+
+    //이름 자동완성 검색 - 메모리 인덱스에서 상위 limit 개
+    public List<ProductSearchHit> searchProducts(String query, Integer limit) {
+        int size = limit == null ? 10 : Math.min(Math.max(limit, 1), searchMaxLimit);
+        return productSearchRepository.search(query, size);
+    }
+
+    public CacheStats cacheStats() {
+        return productSnapshotCache.stats();
+    }
+
     public ProductResponseDto saveProduct(ProductDto productDto) {
         Product product = productDto.toEntity();
         //Product savedProduct = productJpaRepository.save(product);
@@ -55,7 +182,8 @@ public class ProductService {
 
         LOGGER.info("[saveProduct] saveProduct : {}", savedProduct);
 
-        ProductResponseDto responseDto = ProductResponseDto.from(product);
+        ProductResponseDto responseDto = ProductResponseDto.from(savedProduct);
+        productSnapshotCache.put(responseDto);
         return responseDto;
     }
 
@@ -63,14 +191,180 @@ public class ProductService {
         // Product foundProduct = productJpaRepository.findById(number).get();
         //foundProduct.updateProduct(name);
         //Product changedProduct = productJpaRepository.save(foundProduct);
-        Product changedProduct = productRepository.updateProduct(number, name);
-        ProductResponseDto responseDto = ProductResponseDto.from(changedProduct);
+        //update 문은 엔티티를 거치지 않으므로 이름 규칙을 먼저 확인
+        Product.validateName(name);
 
+        //update 한 문장 - 변경된 행이 없으면 없는 제품
+        //응답 : 캐시에 스냅샷이 있으면 스냅샷 + 새 이름 (update 한 번만 왕복)
+        //  가격/재고를 바꾸는 곳(재고 차감/반환, 인기 제품 반영)은 모두 스냅샷을 무효화하므로 캐시에 남은 스냅샷은 DB 와 같음
+        //  스냅샷이 없을 때만 같은 트랜잭션에서 변경된 행을 다시 읽음 (가격/재고를 알 곳이 DB 뿐)
+        LocalDateTime now = Product.currentTime();
+        ProductResponseDto snapshot = productSnapshotCache.get(number);
+        ProductResponseDto responseDto = transactionTemplate.execute(status -> {
+            if (productRepository.updateProduct(number, name, now) == 0) {
+                throw new NoSuchElementException();
+            }
+            if (snapshot != null) {
+                return snapshot.withName(name, ProductResponseDto.toEpochMillis(now));
+            }
+            return ProductResponseDto.from(productRepository.selectProduct(number));
+        });
+        //동시에 들어온 다른 변경과 순서가 뒤바뀌지 않도록 put 대신 invalidate (다음 조회 때 다시 채움)
+        productSnapshotCache.invalidate(number);
         return responseDto;
     }
 
     public void deleteProduct(Long number) throws Exception {
         //productJpaRepository.deleteById(number);
-        productRepository.deleteProduct(number);
+        int deleted = productRepository.deleteProduct(number);
+        productSnapshotCache.invalidate(number);
+        if (deleted == 0) {
+            throw new NoSuchElementException();
+        }
+    }
+
+    // ========== 대량 처리 ==========
+    /**
+     * 대량 등록
+     * 1. 항목별로 엔티티 변환(검증) - 실패한 항목만 실패 처리
+     * 2. bulkChunkSize 개씩 트랜잭션을 나누어 batch insert - chunk 가 실패하면 그 chunk 항목만 실패 처리
+     */
+    public BulkProductResultDto saveProducts(List<ProductDto> productDtos) {
+        List<BulkItemResultDto> results = new ArrayList<>(productDtos.size());
+        List<Product> products = new ArrayList<>(productDtos.size());
+        List<Integer> indexes = new ArrayList<>(productDtos.size());
+        for (int i = 0; i < productDtos.size(); i++) {
+            try {
+                products.add(productDtos.get(i).toEntity());
+                indexes.add(i);
+            } catch (IllegalArgumentException e) {
+                results.add(BulkItemResultDto.fail(i, null, e.getMessage()));
+            }
+        }
+
+        for (int from = 0; from < products.size(); from += bulkChunkSize) {
+            int to = Math.min(products.size(), from + bulkChunkSize);
+            List<Product> chunk = products.subList(from, to);
+            List<Integer> chunkIndexes = indexes.subList(from, to);
+            try {
+                List<Product> savedProducts = insertProductChunk(chunk);
+                for (int i = 0; i < savedProducts.size(); i++) {
+                    productSnapshotCache.put(ProductResponseDto.from(savedProducts.get(i)));
+                    results.add(BulkItemResultDto.success(chunkIndexes.get(i), savedProducts.get(i).getNumber()));
+                }
+            } catch (RuntimeException e) {
+                LOGGER.warn("[saveProducts] chunk 등록 실패. index {} ~ {}, {}", chunkIndexes.get(0), chunkIndexes.get(chunk.size() - 1), e.getMessage());
+                for (Integer index : chunkIndexes) {
+                    results.add(BulkItemResultDto.fail(index, null, "등록 실패 : " + e.getMessage()));
+                }
+            }
+        }
+        results.sort(Comparator.comparingInt(BulkItemResultDto::getIndex));
+        LOGGER.info("[saveProducts] 대량 등록 완료. 요청 : {}", productDtos.size());
+        return BulkProductResultDto.from(results);
+    }
+
+    /**
+     * products 를 한 트랜잭션으로 batch insert (실패하면 전체 롤백 후 예외)
+     * 새 제품이라 캐시에 오래된 값이 있을 수 없으므로 캐시는 건드리지 않음 (가져오기처럼 많은 행이 캐시를 밀어내지 않도록)
+     */
+    public List<Product> insertProductChunk(List<Product> products) {
+        return transactionTemplate.execute(status -> productRepository.insertProducts(products));
+    }
+
+    /**
+     * 대량 이름 변경 - chunk 마다 in 조회 한 번 + batch update
+     * 1. 항목별로 이름 검증(Product.validateName) - 실패한 항목만 실패 처리
+     * 2. 같은 number 가 여러 번 오면 마지막 항목만 반영하고 앞의 항목은 실패 처리 (어느 이름이 남는지 응답에 드러나도록)
+     */
+    public BulkProductResultDto changeProductNames(List<ChangeProductNameDto> changeProductNameDtos) {
+        List<BulkItemResultDto> results = new ArrayList<>(changeProductNameDtos.size());
+        //number -> 마지막 항목 index
+        Map<Long, Integer> lastIndexes = new LinkedHashMap<>();
+        for (int i = 0; i < changeProductNameDtos.size(); i++) {
+            ChangeProductNameDto dto = changeProductNameDtos.get(i);
+            if (dto.getNumber() == null) {
+                results.add(BulkItemResultDto.fail(i, null, "존재하지 않는 제품입니다."));
+                continue;
+            }
+            try {
+                Product.validateName(dto.getName());
+            } catch (IllegalArgumentException e) {
+                results.add(BulkItemResultDto.fail(i, dto.getNumber(), e.getMessage()));
+                continue;
+            }
+            Integer previous = lastIndexes.put(dto.getNumber(), i);
+            if (previous != null) {
+                results.add(BulkItemResultDto.fail(previous, dto.getNumber(), "같은 제품이 요청에 중복되어 마지막 항목만 반영합니다."));
+            }
+        }
+        List<Integer> indexes = new ArrayList<>(lastIndexes.values());
+        indexes.sort(null);
+
+        for (int from = 0; from < indexes.size(); from += bulkChunkSize) {
+            List<Integer> chunkIndexes = indexes.subList(from, Math.min(indexes.size(), from + bulkChunkSize));
+            Map<Long, String> names = new LinkedHashMap<>();
+            for (Integer index : chunkIndexes) {
+                ChangeProductNameDto dto = changeProductNameDtos.get(index);
+                names.put(dto.getNumber(), dto.getName());
+            }
+
+            Set<Long> updatedNumbers = new HashSet<>();
+            String failMessage = null;
+            try {
+                List<Product> updatedProducts = transactionTemplate.execute(status -> productRepository.updateProductNames(names));
+                for (Product product : updatedProducts) {
+                    updatedNumbers.add(product.getNumber());
+                    productSnapshotCache.put(ProductResponseDto.from(product));
+                }
+            } catch (RuntimeException e) {
+                LOGGER.warn("[changeProductNames] chunk 수정 실패. index {} ~ {}, {}",
+                    chunkIndexes.get(0), chunkIndexes.get(chunkIndexes.size() - 1), e.getMessage());
+                failMessage = "수정 실패 : " + e.getMessage();
+            }
+
+            for (Integer index : chunkIndexes) {
+                Long number = changeProductNameDtos.get(index).getNumber();
+                results.add(toItemResult(index, number, updatedNumbers, failMessage));
+            }
+        }
+        results.sort(Comparator.comparingInt(BulkItemResultDto::getIndex));
+        return BulkProductResultDto.from(results);
+    }
+
+    /**
+     * 대량 삭제 - chunk 마다 존재하는 number 조회 후 delete ... in (...) 한 번
+     */
+    public BulkProductResultDto deleteProducts(List<Long> numbers) {
+        List<BulkItemResultDto> results = new ArrayList<>(numbers.size());
+        for (int from = 0; from < numbers.size(); from += bulkChunkSize) {
+            int to = Math.min(numbers.size(), from + bulkChunkSize);
+            List<Long> chunk = numbers.subList(from, to);
+
+            Set<Long> deletedNumbers = new HashSet<>();
+            String failMessage = null;
+            try {
+                deletedNumbers.addAll(transactionTemplate.execute(status -> productRepository.deleteProducts(chunk)));
+                deletedNumbers.forEach(productSnapshotCache::invalidate);
+            } catch (RuntimeException e) {
+                LOGGER.warn("[deleteProducts] chunk 삭제 실패. index {} ~ {}, {}", from, to - 1, e.getMessage());
+                failMessage = "삭제 실패 : " + e.getMessage();
+            }
+
+            for (int i = from; i < to; i++) {
+                results.add(toItemResult(i, numbers.get(i), deletedNumbers, failMessage));
+            }
+        }
+        return BulkProductResultDto.from(results);
+    }
+
+    private BulkItemResultDto toItemResult(int index, Long number, Set<Long> processedNumbers, String failMessage) {
+        if (failMessage != null) {
+            return BulkItemResultDto.fail(index, number, failMessage);
+        }
+        if (number == null || !processedNumbers.contains(number)) {
+            return BulkItemResultDto.fail(index, number, "존재하지 않는 제품입니다.");
+        }
+        return BulkItemResultDto.success(index, number);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,73 @@
+package com.springboot.security.product.application;
+
+import com.springboot.security.common.cache.BoundedExpiringCache;
+import com.springboot.security.common.cache.CacheStats;
+import com.springboot.security.product.presentation.dto.response.ProductResponseDto;
+import java.util.function.Function;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * number -> 제품 응답 스냅샷 캐시 (ProductService.getProduct 앞단)
+ * 엔티티가 아닌 불변 ProductResponseDto 를 보관 -> hit 시 영속성 컨텍스트/엔티티 생성/dirty checking 준비가 없음
+ *
+ * - TTL(spring.product.cache.ttl-millis) + 크기 제한(spring.product.cache.max-size)
+ * - 같은 number 로 동시에 들어온 miss 는 한 번의 쿼리로 합침
+ * - 등록/수정은 put, 삭제는 invalidate (ProductService 에서 커밋된 뒤 호출)
+ */
+@Component
+public class ProductSnapshotCache {
+
+    private final BoundedExpiringCache<Long, ProductResponseDto> cache;
+    private final long ttlMillis;
+    private final boolean enabled;
+
+    public ProductSnapshotCache(@Value("${spring.product.cache.enabled:true}") boolean enabled,
+                                @Value("${spring.product.cache.max-size:10000}") int maxSize,
+                                @Value("${spring.product.cache.ttl-millis:300000}") long ttlMillis) {
+        this.enabled = enabled;
+        this.cache = new BoundedExpiringCache<>(maxSize);
+        this.ttlMillis = ttlMillis;
+    }
+
+    public ProductResponseDto getOrLoad(Long number, Function<Long, ProductResponseDto> loader) {
+        if (!enabled || number == null) {
+            return loader.apply(number);
+        }
+        return cache.getOrLoad(number, loader, ttlMillis);
+    }
+
+    //캐시에 있을 때만 반환 (원본 조회 없음)
+    public ProductResponseDto get(Long number) {
+        if (!enabled || number == null) {
+            return null;
+        }
+        return cache.get(number);
+    }
+
+    /**
+     * 변경된 스냅샷으로 교체
+     * invalidate 를 먼저 해서 진행 중인 조회(변경 전 값을 읽었을 수 있음)가 결과를 캐시에 남기지 못하게 함
+     */
+    public void put(ProductResponseDto product) {
+        if (!enabled || product == null || product.getNumber() == null) {
+            return;
+        }
+        cache.invalidate(product.getNumber());
+        cache.put(product.getNumber(), product, System.currentTimeMillis() + ttlMillis);
+    }
+
+    public void invalidate(Long number) {
+        if (number != null) {
+            cache.invalidate(number);
+        }
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+}
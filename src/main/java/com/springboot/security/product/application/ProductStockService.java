@@ -0,0 +1,109 @@
+package com.springboot.security.product.application;
+
+import com.springboot.security.product.application.exception.InsufficientStockException;
+import com.springboot.security.product.domain.repository.ProductRepository;
+import com.springboot.security.product.presentation.dto.response.StockReservationDto;
+import java.util.NoSuchElementException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * 재고 예약/반환
+ * <p>
+ * - 인기 제품(HotStockCounter 에 등록된 제품) : 메모리 카운터에서 처리, DB 는 주기적으로 반영
+ * - 그 외 : 조건부 update 한 문장 (update ... set stock = stock - n where number = ? and stock >= n)
+ *   엔티티를 읽지 않으므로 동시에 요청이 와도 재고가 음수가 되거나 차감이 유실되지 않음
+ * - 반환은 예약(StockReservationStore) 에 묶임 : 예약한 사용자가 예약한 수량 안에서만 가능
+ */
+@Service
+@RequiredArgsConstructor
+public class ProductStockService {
+
+    private final ProductRepository productRepository;
+    private final HotStockCounter hotStockCounter;
+    private final ProductSnapshotCache productSnapshotCache;
+    private final StockReservationStore stockReservationStore;
+
+    //한 번에 예약할 수 있는 최대 수량
+    @Value("${spring.product.stock.max-quantity:1000}")
+    private int maxQuantity = 1000;
+
+    /**
+     * 재고 차감 후 예약 기록 (부족하면 InsufficientStockException, 제품이 없으면 NoSuchElementException)
+     * @param owner : 예약자 uid (반환할 때 확인)
+     */
+    public StockReservationDto reserve(Long number, int quantity, String owner) {
+        validateQuantity(quantity);
+        decrease(number, quantity);
+        return StockReservationDto.of(stockReservationStore.open(owner, number, quantity), number, quantity);
+    }
+
+    /**
+     * 예약 취소 등으로 재고 반환 - 예약 수량을 넘거나 다른 사용자의 예약이면 IllegalArgumentException
+     */
+    public void release(String reservationId, int quantity, String owner) {
+        validateQuantity(quantity);
+        StockReservationStore.Reservation reservation = stockReservationStore.take(reservationId, owner, quantity);
+        try {
+            increase(reservation.number(), quantity);
+        } catch (RuntimeException e) {
+            reservation.restore(quantity);
+            throw e;
+        }
+    }
+
+    private void decrease(Long number, int quantity) {
+        while (true) {
+            StripedStockCounter counter = hotStockCounter.find(number);
+            if (counter != null) {
+                StripedStockCounter.Result result = counter.tryReserve(quantity);
+                if (result == StripedStockCounter.Result.APPLIED) {
+                    return;
+                }
+                if (result == StripedStockCounter.Result.INSUFFICIENT) {
+                    throw new InsufficientStockException(number, quantity);
+                }
+                //DRAINING : 등록 해제 중 -> runOnDatabase 가 해제가 끝나기를 기다린 뒤 DB 로 처리
+            }
+            if (hotStockCounter.runOnDatabase(number, () -> decreaseInDatabase(number, quantity))) {
+                return;
+            }
+            //기다리는 사이 등록됨 (또는 해제 실패로 카운터가 다시 열림) -> 카운터로 다시 시도
+        }
+    }
+
+    private void decreaseInDatabase(Long number, int quantity) {
+        if (!productRepository.decreaseStockIfEnough(number, quantity)) {
+            //0 행 : 제품이 없는지(NoSuchElementException) 재고가 부족한지 구분
+            productRepository.selectStock(number);
+            throw new InsufficientStockException(number, quantity);
+        }
+        productSnapshotCache.invalidate(number);
+    }
+
+    private void increase(Long number, int quantity) {
+        while (true) {
+            StripedStockCounter counter = hotStockCounter.find(number);
+            if (counter != null && counter.release(quantity) == StripedStockCounter.Result.APPLIED) {
+                return;
+            }
+            if (hotStockCounter.runOnDatabase(number, () -> increaseInDatabase(number, quantity))) {
+                return;
+            }
+        }
+    }
+
+    private void increaseInDatabase(Long number, int quantity) {
+        if (!productRepository.addStock(number, quantity)) {
+            throw new NoSuchElementException();
+        }
+        productSnapshotCache.invalidate(number);
+    }
+
+    private void validateQuantity(int quantity) {
+        if (quantity <= 0 || quantity > maxQuantity) {
+            throw new IllegalArgumentException("수량은 1 이상 " + maxQuantity + " 이하여야 합니다 : " + quantity);
+        }
+    }
+}
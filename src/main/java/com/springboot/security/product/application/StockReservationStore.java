@@ -0,0 +1,95 @@
+package com.springboot.security.product.application;
+
+import com.springboot.security.common.cache.BoundedExpiringCache;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 재고 예약 기록 - 반환은 예약한 사용자가, 예약한 수량 안에서만 가능
+ * <p>
+ * - 예약 id -> (예약자, 제품 number, 남은 수량)
+ * - reservation-ttl-millis 가 지나거나 max-reservations 를 넘어 밀려난 예약은 반환할 수 없음 (차감 확정)
+ * - 여러 인스턴스로 운영하면 예약한 인스턴스에서만 반환 가능 (메모리 보관)
+ */
+@Component
+public class StockReservationStore {
+
+    private final BoundedExpiringCache<String, Reservation> reservations;
+    private final long ttlMillis;
+
+    public StockReservationStore(@Value("${spring.product.stock.max-reservations:100000}") int maxReservations,
+                                 @Value("${spring.product.stock.reservation-ttl-millis:1800000}") long ttlMillis) {
+        this.reservations = new BoundedExpiringCache<>(maxReservations);
+        this.ttlMillis = ttlMillis;
+    }
+
+    //예약 기록 후 예약 id 반환
+    String open(String owner, Long number, int quantity) {
+        String reservationId = UUID.randomUUID().toString();
+        reservations.put(reservationId, new Reservation(owner, number, quantity),
+            System.currentTimeMillis() + ttlMillis);
+        return reservationId;
+    }
+
+    /**
+     * 예약에서 quantity 만큼 꺼냄 (반환할 제품 number 를 돌려줌)
+     * 예약이 없거나, 다른 사용자의 예약이거나, 남은 수량보다 많으면 IllegalArgumentException
+     */
+    Reservation take(String reservationId, String owner, int quantity) {
+        Reservation reservation = reservationId == null ? null : reservations.get(reservationId);
+        if (reservation == null || !reservation.owner().equals(owner)) {
+            throw new IllegalArgumentException("예약을 찾을 수 없습니다 : " + reservationId);
+        }
+        if (!reservation.take(quantity)) {
+            throw new IllegalArgumentException("예약 수량을 넘어 반환할 수 없습니다. 남은 수량 : " + reservation.remaining());
+        }
+        if (reservation.remaining() == 0) {
+            reservations.invalidate(reservationId);
+        }
+        return reservation;
+    }
+
+    static final class Reservation {
+
+        private final String owner;
+        private final Long number;
+        private final AtomicInteger remaining;
+
+        private Reservation(String owner, Long number, int quantity) {
+            this.owner = owner;
+            this.number = number;
+            this.remaining = new AtomicInteger(quantity);
+        }
+
+        String owner() {
+            return owner;
+        }
+
+        Long number() {
+            return number;
+        }
+
+        int remaining() {
+            return remaining.get();
+        }
+
+        //남은 수량이 충분할 때만 차감 (동시에 반환해도 예약 수량을 넘지 않음)
+        private boolean take(int quantity) {
+            int current;
+            do {
+                current = remaining.get();
+                if (current < quantity) {
+                    return false;
+                }
+            } while (!remaining.compareAndSet(current, current - quantity));
+            return true;
+        }
+
+        //DB 반영에 실패한 반환을 되돌림 (이미 제거된 예약이면 효과 없음)
+        void restore(int quantity) {
+            remaining.addAndGet(quantity);
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package com.springboot.security.product.application;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 한 제품의 재고를 여러 칸(stripe)에 나누어 담은 메모리 카운터 (인기 제품용)
+ * <p>
+ * - 요청마다 임의의 칸에서 CAS 로 차감 -> 한 값(한 행/한 AtomicInteger)에 모든 스레드가 몰리지 않음
+ * - 칸마다 64 byte 간격으로 배치해 false sharing 방지
+ * - 고른 칸이 부족하면 다른 칸을 시도하고, 그래도 안 되면 전체를 모아 다시 나눔(rebalance)
+ *   -> 전체 합이 충분한데 칸이 나뉘어 있어서 거절하는 일은 없음
+ * - DB 에 아직 반영하지 않은 차감량(pending)을 따로 모아 두고 HotStockCounter 가 주기적으로 반영 (write-behind)
+ * - closeAndDrain 이후의 예약/반환은 카운터를 건드리지 않고 DRAINING 을 반환
+ *   (호출하는 쪽은 HotStockCounter 의 등록 해제가 끝나기를 기다렸다가 DB 로 처리, 해제가 실패하면 reopen 후 다시 카운터 사용)
+ *   예약/반환은 칸별 진행 중 카운터(inFlight)를 올린 뒤 closed 를 확인하고,
+ *   closeAndDrain 은 closed 를 세운 뒤 진행 중인 작업이 모두 끝나기를 기다렸다가 pending 을 가져감
+ *   -> APPLIED 는 반드시 가져간 합계에 포함되고, DRAINING 은 절대 포함되지 않음 (이중 차감/반환 없음)
+ */
+class StripedStockCounter {
+
+    enum Result { APPLIED, INSUFFICIENT, DRAINING }
+
+    //long 8개 = 64 byte (캐시 라인)
+    private static final int PADDING = 8;
+
+    private final AtomicLongArray stripes;
+    private final int stripeCount;
+    //DB 에 아직 반영하지 않은 차감량 (반환은 음수)
+    private final LongAdder pendingDecrease = new LongAdder();
+    private final ReentrantLock rebalanceLock = new ReentrantLock();
+    //칸별 진행 중인 예약/반환 수 (stripes 와 같은 간격으로 배치해 한 값에 몰리지 않음)
+    private final AtomicLongArray inFlight;
+    private volatile boolean closed;
+
+    StripedStockCounter(int stock, int stripeCount) {
+        this.stripeCount = Math.max(1, stripeCount);
+        this.stripes = new AtomicLongArray(this.stripeCount * PADDING);
+        this.inFlight = new AtomicLongArray(this.stripeCount * PADDING);
+        distribute(stock);
+    }
+
+    Result tryReserve(int quantity) {
+        int start = ThreadLocalRandom.current().nextInt(stripeCount);
+        if (!enter(start)) {
+            return Result.DRAINING;
+        }
+        try {
+            for (int i = 0; i < stripeCount; i++) {
+                int index = ((start + i) % stripeCount) * PADDING;
+                long current;
+                while ((current = stripes.get(index)) >= quantity) {
+                    if (stripes.compareAndSet(index, current, current - quantity)) {
+                        pendingDecrease.add(quantity);
+                        return Result.APPLIED;
+                    }
+                }
+            }
+            return rebalanceAndReserve(quantity);
+        } finally {
+            exit(start);
+        }
+    }
+
+    Result release(int quantity) {
+        int stripe = ThreadLocalRandom.current().nextInt(stripeCount);
+        if (!enter(stripe)) {
+            return Result.DRAINING;
+        }
+        try {
+            stripes.addAndGet(stripe * PADDING, quantity);
+            pendingDecrease.add(-quantity);
+            return Result.APPLIED;
+        } finally {
+            exit(stripe);
+        }
+    }
+
+    long available() {
+        long sum = 0;
+        for (int i = 0; i < stripeCount; i++) {
+            sum += stripes.get(i * PADDING);
+        }
+        return sum;
+    }
+
+    //DB 에 반영할 차감량을 가져가고 0 으로 초기화 (반영 실패 시 restorePending 으로 되돌림)
+    long drainPending() {
+        return pendingDecrease.sumThenReset();
+    }
+
+    void restorePending(long decrease) {
+        pendingDecrease.add(decrease);
+    }
+
+    /**
+     * 이후 예약/반환은 DRAINING 으로 만들고, 진행 중이던 작업이 끝난 뒤 남은 차감량을 가져감
+     * 반환값에는 APPLIED 로 끝난 모든 작업이 포함됨
+     */
+    long closeAndDrain() {
+        closed = true;
+        for (int i = 0; i < stripeCount; i++) {
+            while (inFlight.get(i * PADDING) != 0) {
+                Thread.onSpinWait();
+            }
+        }
+        return drainPending();
+    }
+
+    //closeAndDrain 으로 가져간 차감량을 DB 에 반영하지 못했을 때 다시 사용 (차감량은 restorePending 으로 되돌린 뒤 호출)
+    void reopen() {
+        closed = false;
+    }
+
+    //진행 중 표시 후 closed 확인 (closeAndDrain 은 closed 를 세운 뒤 진행 중 표시를 확인 -> 둘 중 하나는 반드시 상대를 봄)
+    private boolean enter(int stripe) {
+        inFlight.incrementAndGet(stripe * PADDING);
+        if (closed) {
+            inFlight.decrementAndGet(stripe * PADDING);
+            return false;
+        }
+        return true;
+    }
+
+    private void exit(int stripe) {
+        inFlight.decrementAndGet(stripe * PADDING);
+    }
+
+    //모든 칸을 모아서 차감한 뒤 다시 나눔 (칸마다 조금씩 남아 있을 때만 발생)
+    private Result rebalanceAndReserve(int quantity) {
+        rebalanceLock.lock();
+        try {
+            long total = 0;
+            for (int i = 0; i < stripeCount; i++) {
+                total += stripes.getAndSet(i * PADDING, 0);
+            }
+            boolean enough = total >= quantity;
+            if (enough) {
+                total -= quantity;
+            }
+            distribute(total);
+            if (!enough) {
+                return Result.INSUFFICIENT;
+            }
+            pendingDecrease.add(quantity);
+            return Result.APPLIED;
+        } finally {
+            rebalanceLock.unlock();
+        }
+    }
+
+    //다른 스레드의 반환이 동시에 더해질 수 있으므로 set 이 아닌 add
+    private void distribute(long stock) {
+        long share = stock / stripeCount;
+        long remainder = stock % stripeCount;
+        for (int i = 0; i < stripeCount; i++) {
+            stripes.addAndGet(i * PADDING, share + (i < remainder ? 1 : 0));
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.springboot.security.product.application.exception;
+
+import lombok.Getter;
+
+//남은 재고가 요청 수량보다 적은 경우
+@Getter
+public class InsufficientStockException extends RuntimeException {
+
+    private final Long number;
+    private final int quantity;
+
+    public InsufficientStockException(Long number, int quantity) {
+        super("재고가 부족합니다. number : " + number + ", quantity : " + quantity);
+        this.number = number;
+        this.quantity = quantity;
+    }
+}
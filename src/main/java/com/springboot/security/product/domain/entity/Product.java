@@ -7,8 +7,10 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.PreUpdate;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.EqualsAndHashCode;
@@ -41,8 +43,13 @@ import lombok.ToString;
 @Table(name = "product")
 public class Product {
 
+    private static final int NAME_MAX_LENGTH = 255;
+
+    //IDENTITY 는 insert 마다 DB가 id 를 만들어야 해서 JDBC batch insert 가 꺼짐
+    // -> 시퀀스(MySQL 은 product_seq 테이블로 대체)에서 allocationSize 만큼 미리 받아오는 pooled 방식 사용
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "product_seq_generator")
+    @SequenceGenerator(name = "product_seq_generator", sequenceName = "product_seq", allocationSize = 50)
     private Long number;
 
     @Column(nullable = false)
@@ -79,26 +86,49 @@ public class Product {
     //객체 생성
     public static Product create(String name, int price, Integer stock) {
         //비즈니스 규칙검증
+        validateName(name);
+        if (price < 0) {
+            throw new IllegalArgumentException("가격은 0 이상이어야 합니다 : " + price);
+        }
+        if (stock == null || stock < 0) {
+            throw new IllegalArgumentException("재고는 0 이상이어야 합니다 : " + stock);
+        }
         //도메인 이벤트 발행
         return new Product(null, name, price, stock, null, null);
     }
 
+    //이름 규칙 (생성, 이름 변경 update 문 실행 전에 공통으로 사용)
+    public static void validateName(String name) {
+        if (name == null || name.isBlank()) {
+            throw new IllegalArgumentException("제품 이름은 비어 있을 수 없습니다.");
+        }
+        if (name.length() > NAME_MAX_LENGTH) {
+            throw new IllegalArgumentException("제품 이름은 " + NAME_MAX_LENGTH + "자 이하여야 합니다.");
+        }
+    }
+
+    //createdAt/updatedAt 기준 시각 - 서버 시간대와 상관없이 UTC 로 저장 (ETag/Last-Modified 가 인스턴스마다 달라지지 않도록)
+    public static LocalDateTime currentTime() {
+        return LocalDateTime.now(ZoneOffset.UTC);
+    }
+
     //====================비즈니르 로직============================
     //상태 변경 (setter 대신)
     public void updateProduct(String name) {
+        validateName(name);
         this.name = name;
-        this.updatedAt = LocalDateTime.now();
+        this.updatedAt = currentTime();
     }
 
     @PrePersist
     protected void onCreate() {
-        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime now = currentTime();
         this.createdAt = now;
         this.updatedAt = now;
     }
 
     @PreUpdate
     protected void onUpdate() {
-        this.updatedAt = LocalDateTime.now();
+        this.updatedAt = currentTime();
     }
 }
\ No newline at end of file
@@ -0,0 +1,19 @@
+package com.springboot.security.product.domain.repository;
+
+/**
+ * 목록 조회 조건 (null 인 조건은 적용하지 않음)
+ *
+ * @param afterNumber : 이전 페이지의 마지막 number (keyset 커서, null 이면 처음부터)
+ * @param minPrice    : 최소 가격 (포함)
+ * @param maxPrice    : 최대 가격 (포함)
+ * @param minStock    : 최소 재고 (포함)
+ * @param maxStock    : 최대 재고 (포함)
+ */
+public record ProductListCondition(
+    Long afterNumber,
+    Integer minPrice,
+    Integer maxPrice,
+    Integer minStock,
+    Integer maxStock
+) {
+}
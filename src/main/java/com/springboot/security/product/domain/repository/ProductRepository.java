@@ -2,6 +2,11 @@ package com.springboot.security.product.domain.repository;
 
 
 import com.springboot.security.product.domain.entity.Product;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
 
 /**
  * 체크 예외 vs 언체크 예외
@@ -31,11 +36,43 @@ public interface ProductRepository {
     //데이터 없으면 NosSuchElementException (언체크)
     Product selectProduct(Long number);
 
-    //업데이트 로직에서 검증 실패나 다른 처리 문제 발생 가능 -> 체크 예외
-    Product updateProduct(Long number, String name);
+    //엔티티를 불러오지 않고 update 한 문장으로 이름 변경, 변경된 행 수 반환 (0 이면 없는 제품)
+    //now : updatedAt 에 기록할 시각 (호출하는 쪽이 같은 값으로 응답을 만들 수 있도록 전달받음)
+    int updateProduct(Long number, String name, LocalDateTime now);
 
-    //삭제하려는 엔티티가 존재하지 않거나 DB오류 발생 가능하므로 체크 예외 선언
-    void deleteProduct(Long number);
+    //엔티티를 불러오지 않고 delete 한 문장으로 삭제, 삭제된 행 수 반환 (0 이면 없는 제품)
+    int deleteProduct(Long number);
 
     Product saveAndFlushProduct(Product product);
+
+    //========== 대량 처리 (JDBC batch) - 트랜잭션은 호출하는 쪽에서 묶음 단위로 관리 ==========
+    List<Product> insertProducts(List<Product> products);
+
+    //number -> 새 이름, 존재하는 제품만 수정해서 반환
+    List<Product> updateProductNames(Map<Long, String> names);
+
+    //존재하는 제품만 삭제하고 삭제된 number 반환
+    List<Long> deleteProducts(Collection<Long> numbers);
+
+    //========== 목록 조회 (keyset) ==========
+    //condition.afterNumber 보다 큰 number 를 오름차순으로 limit 개 조회 (OFFSET 을 쓰지 않으므로 뒤 페이지도 비용이 같음)
+    List<ProductSummary> selectProducts(ProductListCondition condition, int limit);
+
+    //수정 시각(updatedAt)만 조회 - 조건부 GET 에서 엔티티 없이 변경 여부 확인, 데이터 없으면 NoSuchElementException
+    //updatedAt 이 비어 있는 행은 null
+    LocalDateTime selectUpdatedAt(Long number);
+
+    //========== 재고 (엔티티를 불러오지 않는 조건부 update 한 문장) ==========
+    //재고가 quantity 이상일 때만 차감 (stock >= quantity), 차감했으면 true
+    boolean decreaseStockIfEnough(Long number, int quantity);
+
+    //재고에 delta 를 더함 (음수면 차감, 조건 없음), 대상이 있었으면 true
+    boolean addStock(Long number, int delta);
+
+    //현재 재고, 데이터 없으면 NoSuchElementException
+    int selectStock(Long number);
+
+    //========== 전체 내보내기 ==========
+    //전체 제품을 number 순으로 하나씩 consumer 에 넘김 (메모리에 모으지 않음), 넘긴 행 수 반환
+    long exportProducts(Consumer<ProductSummary> consumer);
 }
\ No newline at end of file
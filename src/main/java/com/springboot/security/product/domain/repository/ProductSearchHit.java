@@ -0,0 +1,10 @@
+package com.springboot.security.product.domain.repository;
+
+/**
+ * 이름 검색 결과 (자동완성용이라 number/name 만)
+ */
+public record ProductSearchHit(
+    Long number,
+    String name
+) {
+}
@@ -0,0 +1,17 @@
+package com.springboot.security.product.domain.repository;
+
+import java.util.List;
+
+/**
+ * 제품 이름 검색 인터페이스
+ * 응용 계층은 이 인터페이스만 사용하고, 구현체(메모리 인덱스 등)는 인프라스트럭처 계층에서 제공
+ */
+public interface ProductSearchRepository {
+
+    /**
+     * @param query : 검색어 (마지막 토큰은 접두어로 취급)
+     * @param limit : 최대 결과 수
+     * @return 점수 순으로 정렬된 상위 limit 개
+     */
+    List<ProductSearchHit> search(String query, int limit);
+}
@@ -0,0 +1,13 @@
+package com.springboot.security.product.domain.repository;
+
+/**
+ * 목록 조회용 제품 프로젝션
+ * 엔티티를 불러오지 않고 쿼리 결과(select new ...)로 바로 생성 -> 영속성 컨텍스트에 올라가지 않음
+ */
+public record ProductSummary(
+    Long number,
+    String name,
+    Integer price,
+    Integer stock
+) {
+}
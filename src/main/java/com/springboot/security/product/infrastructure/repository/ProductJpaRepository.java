@@ -1,9 +1,85 @@
 package com.springboot.security.product.infrastructure.repository;
 
 import com.springboot.security.product.domain.entity.Product;
+import com.springboot.security.product.domain.repository.ProductSummary;
+import java.util.Collection;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface ProductJpaRepository extends JpaRepository<Product, Long> {
+
+    //엔티티를 불러오지 않고 존재하는 number 만 조회
+    @Query("select p.number from Product p where p.number in :numbers")
+    List<Long> findExistingNumbers(@Param("numbers") Collection<Long> numbers);
+
+    /**
+     * 이름 변경 - findById 후 dirty checking 대신 update 한 문장 (DB 왕복 1번)
+     * 벌크 update 는 @PreUpdate 를 거치지 않으므로 updatedAt 을 직접 지정
+     * @return 변경된 행 수 (0 이면 없는 제품)
+     */
+    @Modifying
+    @Query("update Product p set p.name = :name, p.updatedAt = :now where p.number = :number")
+    int updateName(@Param("number") Long number,
+                   @Param("name") String name,
+                   @Param("now") LocalDateTime now);
+
+    //삭제 - 엔티티를 불러오지 않고 delete 한 문장, 삭제된 행 수 반환
+    @Modifying
+    @Query("delete from Product p where p.number = :number")
+    int deleteByNumber(@Param("number") Long number);
+
+    /**
+     * 재고 조건부 차감 - 한 문장으로 확인과 차감을 같이 해서 동시에 요청이 와도 음수가 되지 않음
+     * (엔티티를 읽고 dirty checking 으로 수정하면 읽은 뒤 다른 트랜잭션이 차감한 것을 덮어씀)
+     * 벌크 update 는 @PreUpdate 를 거치지 않으므로 updatedAt 을 직접 지정
+     * @return 변경된 행 수 (0 이면 제품이 없거나 재고 부족)
+     */
+    @Modifying
+    @Query("update Product p set p.stock = p.stock - :quantity, p.updatedAt = :now"
+        + " where p.number = :number and p.stock >= :quantity")
+    int decreaseStockIfEnough(@Param("number") Long number,
+                              @Param("quantity") int quantity,
+                              @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("update Product p set p.stock = p.stock + :delta, p.updatedAt = :now where p.number = :number")
+    int addStock(@Param("number") Long number,
+                 @Param("delta") int delta,
+                 @Param("now") LocalDateTime now);
+
+    //updatedAt 이 null 인 행도 구분하려고 List 로 반환 (없으면 빈 목록, null 이면 [null])
+    @Query("select p.updatedAt from Product p where p.number = :number")
+    List<LocalDateTime> findUpdatedAt(@Param("number") Long number);
+
+    @Query("select p.stock from Product p where p.number = :number")
+    Optional<Integer> findStock(@Param("number") Long number);
+
+    /**
+     * keyset 페이지 조회 - where number > :afterNumber order by number limit n
+     * PK 인덱스에서 커서 위치로 바로 이동하므로 페이지가 뒤로 가도 비용이 일정함 (OFFSET 은 앞 페이지를 모두 읽고 버림)
+     * 필요한 컬럼만 DTO 프로젝션으로 조회 (엔티티 생성/스냅샷 없음)
+     * Pageable 은 limit 용도로만 사용 (List 반환이라 count 쿼리 없음)
+     */
+    @Query("select new com.springboot.security.product.domain.repository.ProductSummary(p.number, p.name, p.price, p.stock)"
+        + " from Product p"
+        + " where p.number > :afterNumber"
+        + " and (:minPrice is null or p.price >= :minPrice)"
+        + " and (:maxPrice is null or p.price <= :maxPrice)"
+        + " and (:minStock is null or p.stock >= :minStock)"
+        + " and (:maxStock is null or p.stock <= :maxStock)"
+        + " order by p.number asc")
+    List<ProductSummary> findSummariesAfter(@Param("afterNumber") Long afterNumber,
+                                            @Param("minPrice") Integer minPrice,
+                                            @Param("maxPrice") Integer maxPrice,
+                                            @Param("minStock") Integer minStock,
+                                            @Param("maxStock") Integer maxStock,
+                                            Pageable pageable);
 }
\ No newline at end of file
@@ -1,12 +1,31 @@
 package com.springboot.security.product.infrastructure.repository;
 
+import com.springboot.security.common.metrics.OperationTimers;
 import com.springboot.security.product.domain.entity.Product;
+import com.springboot.security.product.domain.repository.ProductListCondition;
 import com.springboot.security.product.domain.repository.ProductRepository;
+import com.springboot.security.product.domain.repository.ProductSummary;
+import com.springboot.security.product.infrastructure.search.ProductSearchIndex;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Optional;
-import lombok.RequiredArgsConstructor;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 /**
  * 제품 리포지터리 어댑터
  *
@@ -20,47 +39,258 @@ import org.springframework.transaction.annotation.Transactional;
  * - JPA 리포지터리를 위임하여 실제 데이터베이스 작업 수행
  */
 @Component
-@RequiredArgsConstructor
 public class ProductRepositoryAdapter implements ProductRepository {
 
+    //repository.calls{repository=product, method=...} 타이머 (@Transactional 메서드는 커밋 시간 제외)
+    private enum Operation {
+        INSERT_PRODUCT, SELECT_PRODUCT, UPDATE_PRODUCT, DELETE_PRODUCT, SAVE_AND_FLUSH_PRODUCT,
+        INSERT_PRODUCTS, UPDATE_PRODUCT_NAMES, DELETE_PRODUCTS, SELECT_PRODUCTS,
+        DECREASE_STOCK_IF_ENOUGH, ADD_STOCK, SELECT_UPDATED_AT, SELECT_STOCK, EXPORT_PRODUCTS
+    }
 
     private final ProductJpaRepository productJpaRepository;
+    //이름 검색 인덱스 - 쓰기가 커밋된 뒤에 반영
+    private final ProductSearchIndex productSearchIndex;
+    private final OperationTimers<Operation> timers;
+
+    //내보내기처럼 JPA 리포지터리로 표현하기 어려운 쿼리용 (공유 EntityManager 프록시)
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    //내보내기 시 한 번에 DB 에서 가져올 행 수 (MySQL 은 URL 의 useCursorFetch=true 와 함께 서버 커서로 동작)
+    @Value("${spring.product.export.fetch-size:1000}")
+    private int exportFetchSize = 1000;
+
+    public ProductRepositoryAdapter(ProductJpaRepository productJpaRepository,
+                                    ProductSearchIndex productSearchIndex,
+                                    MeterRegistry meterRegistry) {
+        this.productJpaRepository = productJpaRepository;
+        this.productSearchIndex = productSearchIndex;
+        this.timers = new OperationTimers<>(meterRegistry, "repository.calls", "리포지터리 호출 시간",
+            Operation.class, "repository", "product");
+    }
 
     @Override
     public Product insertProduct(Product product) {
-        Product savedProduct = productJpaRepository.save(product);
-        return savedProduct;
+        long start = System.nanoTime();
+        try {
+            Product savedProduct = productJpaRepository.save(product);
+            afterCommit(() -> productSearchIndex.put(savedProduct.getNumber(), savedProduct.getName()));
+            return savedProduct;
+        } finally {
+            timers.record(Operation.INSERT_PRODUCT, start);
+        }
     }
 
     @Override
     public Product selectProduct(Long number) {
-        Optional<Product> selectedProduct = productJpaRepository.findById(number);
-        if (selectedProduct.isPresent()) {
-            Product product = selectedProduct.get();
-            return product;
-        } else throw new NoSuchElementException();
+        long start = System.nanoTime();
+        try {
+            Optional<Product> selectedProduct = productJpaRepository.findById(number);
+            if (selectedProduct.isPresent()) {
+                Product product = selectedProduct.get();
+                return product;
+            } else throw new NoSuchElementException();
+        } finally {
+            timers.record(Operation.SELECT_PRODUCT, start);
+        }
     }
 
     @Transactional
     @Override
-    public Product updateProduct(Long number, String name) {
-        Product product = productJpaRepository.findById(number).orElseThrow(NoSuchElementException::new);
-        product.updateProduct(name);
-        //@Transactional을 붙이면 엔티티의 내용이 변경되면 Dirty Checking 발생 -> 자동으로 save. 즉 save 메서드를 쓸 필요 없음
-        //-> 단 @Transactional 은 서비스 레이어에 붙이는게 좋음
-
-        //return productJpaRepository.save(product);
-        return product;
+    public int updateProduct(Long number, String name, LocalDateTime now) {
+        long start = System.nanoTime();
+        try {
+            //findById + dirty checking 은 select, update 두 번 왕복하고 엔티티를 영속성 컨텍스트에 올림
+            // -> update 한 문장으로 변경하고 변경된 행 수로 존재 여부 판단
+            int updated = productJpaRepository.updateName(number, name, now);
+            if (updated > 0) {
+                afterCommit(() -> productSearchIndex.put(number, name));
+            }
+            return updated;
+        } finally {
+            timers.record(Operation.UPDATE_PRODUCT, start);
+        }
     }
 
+    @Transactional
     @Override
-    public void deleteProduct(Long number) {
-        Product selectedProduct = productJpaRepository.findById(number).orElseThrow(NoSuchElementException::new);
-        productJpaRepository.delete(selectedProduct);
+    public int deleteProduct(Long number) {
+        long start = System.nanoTime();
+        try {
+            //delete(entity) 는 엔티티를 불러와 관리 상태로 만든 뒤 삭제 -> delete 한 문장으로 대체
+            int deleted = productJpaRepository.deleteByNumber(number);
+            if (deleted > 0) {
+                afterCommit(() -> productSearchIndex.remove(number));
+            }
+            return deleted;
+        } finally {
+            timers.record(Operation.DELETE_PRODUCT, start);
+        }
     }
 
     @Override
     public Product saveAndFlushProduct(Product product) {
-        return productJpaRepository.saveAndFlush(product);
+        long start = System.nanoTime();
+        try {
+            Product savedProduct = productJpaRepository.saveAndFlush(product);
+            afterCommit(() -> productSearchIndex.put(savedProduct.getNumber(), savedProduct.getName()));
+            return savedProduct;
+        } finally {
+            timers.record(Operation.SAVE_AND_FLUSH_PRODUCT, start);
+        }
+    }
+
+    //id 를 시퀀스에서 미리 받아오므로 insert 는 커밋(flush) 시점에 batch_size 개씩 묶여서 전송됨
+    @Transactional
+    @Override
+    public List<Product> insertProducts(List<Product> products) {
+        long start = System.nanoTime();
+        try {
+            List<Product> savedProducts = productJpaRepository.saveAll(products);
+            afterCommit(() -> savedProducts.forEach(product -> productSearchIndex.put(product.getNumber(), product.getName())));
+            return savedProducts;
+        } finally {
+            timers.record(Operation.INSERT_PRODUCTS, start);
+        }
+    }
+
+    //in 조회 한 번 + dirty checking 으로 update batch 전송
+    @Transactional
+    @Override
+    public List<Product> updateProductNames(Map<Long, String> names) {
+        long start = System.nanoTime();
+        try {
+            List<Product> products = productJpaRepository.findAllById(names.keySet());
+            for (Product product : products) {
+                product.updateProduct(names.get(product.getNumber()));
+            }
+            afterCommit(() -> products.forEach(product -> productSearchIndex.put(product.getNumber(), product.getName())));
+            return products;
+        } finally {
+            timers.record(Operation.UPDATE_PRODUCT_NAMES, start);
+        }
+    }
+
+    //엔티티를 불러오지 않고 delete ... where number in (...) 한 번으로 삭제
+    @Transactional
+    @Override
+    public List<Long> deleteProducts(Collection<Long> numbers) {
+        long start = System.nanoTime();
+        try {
+            List<Long> existingNumbers = productJpaRepository.findExistingNumbers(numbers);
+            if (!existingNumbers.isEmpty()) {
+                productJpaRepository.deleteAllByIdInBatch(existingNumbers);
+                afterCommit(() -> existingNumbers.forEach(productSearchIndex::remove));
+            }
+            return existingNumbers;
+        } finally {
+            timers.record(Operation.DELETE_PRODUCTS, start);
+        }
+    }
+
+    @Override
+    public List<ProductSummary> selectProducts(ProductListCondition condition, int limit) {
+        long start = System.nanoTime();
+        try {
+            long afterNumber = condition.afterNumber() == null ? 0L : condition.afterNumber();
+            return productJpaRepository.findSummariesAfter(afterNumber,
+                condition.minPrice(), condition.maxPrice(), condition.minStock(), condition.maxStock(),
+                PageRequest.of(0, limit));
+        } finally {
+            timers.record(Operation.SELECT_PRODUCTS, start);
+        }
+    }
+
+    @Transactional
+    @Override
+    public boolean decreaseStockIfEnough(Long number, int quantity) {
+        long start = System.nanoTime();
+        try {
+            return productJpaRepository.decreaseStockIfEnough(number, quantity, Product.currentTime()) > 0;
+        } finally {
+            timers.record(Operation.DECREASE_STOCK_IF_ENOUGH, start);
+        }
+    }
+
+    @Transactional
+    @Override
+    public boolean addStock(Long number, int delta) {
+        long start = System.nanoTime();
+        try {
+            return productJpaRepository.addStock(number, delta, Product.currentTime()) > 0;
+        } finally {
+            timers.record(Operation.ADD_STOCK, start);
+        }
+    }
+
+    @Override
+    public LocalDateTime selectUpdatedAt(Long number) {
+        long start = System.nanoTime();
+        try {
+            List<LocalDateTime> updatedAt = productJpaRepository.findUpdatedAt(number);
+            if (updatedAt.isEmpty()) {
+                throw new NoSuchElementException();
+            }
+            return updatedAt.get(0);
+        } finally {
+            timers.record(Operation.SELECT_UPDATED_AT, start);
+        }
+    }
+
+    @Override
+    public int selectStock(Long number) {
+        long start = System.nanoTime();
+        try {
+            return productJpaRepository.findStock(number).orElseThrow(NoSuchElementException::new);
+        } finally {
+            timers.record(Operation.SELECT_STOCK, start);
+        }
+    }
+
+    /**
+     * 전체 내보내기
+     * - 엔티티가 아닌 ProductSummary 프로젝션이라 영속성 컨텍스트에 쌓이지 않음 (detach/clear 불필요)
+     * - getResultStream = forward-only 커서, fetch size 만큼씩만 드라이버가 가져옴
+     * -> 테이블 크기와 관계없이 메모리 사용량 일정
+     * 스트림을 다 읽을 때까지 트랜잭션(커넥션)을 유지함
+     */
+    @Transactional(readOnly = true)
+    @Override
+    public long exportProducts(Consumer<ProductSummary> consumer) {
+        long start = System.nanoTime();
+        try {
+            TypedQuery<ProductSummary> query = entityManager.createQuery(
+                    "select new com.springboot.security.product.domain.repository.ProductSummary(p.number, p.name, p.price, p.stock)"
+                        + " from Product p order by p.number asc", ProductSummary.class)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, exportFetchSize)
+                .setHint(HibernateHints.HINT_READ_ONLY, true);
+
+            long rows = 0;
+            try (Stream<ProductSummary> stream = query.getResultStream()) {
+                Iterator<ProductSummary> iterator = stream.iterator();
+                while (iterator.hasNext()) {
+                    consumer.accept(iterator.next());
+                    rows++;
+                }
+            }
+            return rows;
+        } finally {
+            timers.record(Operation.EXPORT_PRODUCTS, start);
+        }
+    }
+
+    //트랜잭션 안이면 커밋된 뒤에 실행 (롤백되면 실행하지 않음), 트랜잭션 밖이면 이미 커밋되었으므로 바로 실행
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
     }
-}
\ No newline at end of file
+}
@@ -1,6 +1,8 @@
 package com.springboot.security.product.infrastructure.repository;
 
 import com.springboot.security.product.domain.repository.ProductRepository;
+import com.springboot.security.product.infrastructure.search.ProductSearchIndex;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 /**
@@ -22,8 +24,10 @@ public class ProductRepositoryConfig {
      * - JPA 인터페이스 (ProductJpaRepository)를 연결
      */
     @Bean
-    public ProductRepository productRepository(ProductJpaRepository productJpaRepository) {
-        return new ProductRepositoryAdapter(productJpaRepository);
+    public ProductRepository productRepository(ProductJpaRepository productJpaRepository,
+                                               ProductSearchIndex productSearchIndex,
+                                               MeterRegistry meterRegistry) {
+        return new ProductRepositoryAdapter(productJpaRepository, productSearchIndex, meterRegistry);
     }
 
 }
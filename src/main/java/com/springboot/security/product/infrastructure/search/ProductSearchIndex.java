@@ -0,0 +1,410 @@
+package com.springboot.security.product.infrastructure.search;
+
+import com.springboot.security.product.domain.repository.ProductSearchHit;
+import com.springboot.security.product.domain.repository.ProductSearchRepository;
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.locks.ReentrantLock;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 제품 이름 검색 인덱스 (메모리)
+ * <p>
+ * - 이름을 정규화(NFKC + 소문자)한 뒤 글자/숫자가 아닌 문자로 잘라 토큰으로 만듦
+ * - 역색인 : 토큰 -> number 목록 (검색 결과 순서인 이름 길이, number 순으로 정렬) -> 앞에서부터 limit 개만 읽고 멈춤
+ *   토큰을 정렬된 ConcurrentSkipListMap 에 두어 정확히 일치하는 토큰 조회와
+ *   접두어 조회(subMap(prefix, prefix + Character.MAX_VALUE))를 같은 구조로 처리 (접두어 트리 대신)
+ * - 1~2 글자 접두어 : 토큰 앞 1, 2 글자 -> number 목록을 따로 둠 (토큰 수십만 개를 병합하지 않고 목록 하나만 읽음)
+ * - 검색 : 마지막 토큰은 접두어(자동완성), 나머지 토큰은 정확히 일치해야 함
+ * - 조회는 락 없이, 변경(put/remove)은 ReentrantLock 으로 직렬화 (변경은 조회보다 훨씬 적음)
+ * <p>
+ * ProductRepositoryAdapter 가 커밋 후에 put/remove 를 호출하고, 시작 시 ProductSearchIndexInitializer 가 전체를 다시 채움
+ */
+@Component
+public class ProductSearchIndex implements ProductSearchRepository {
+
+    private final ConcurrentHashMap<Long, IndexedProduct> products = new ConcurrentHashMap<>();
+    //짧은 접두어(SHORT_PREFIX_LENGTH 글자 이하)는 해당하는 토큰이 너무 많아 토큰 별 병합 대신 접두어 별 posting 을 따로 둠
+    private static final int SHORT_PREFIX_LENGTH = 2;
+
+    private final ConcurrentSkipListMap<String, Posting> postings = new ConcurrentSkipListMap<>();
+    private final ConcurrentHashMap<String, Posting> shortPrefixPostings = new ConcurrentHashMap<>();
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private final int maxScan;
+    //재구성 중에 변경된 number (재구성이 읽은 값이 오래된 값일 수 있으므로 덮어쓰지 않음)
+    private volatile Set<Long> changedDuringRebuild;
+
+    public ProductSearchIndex(@Value("${spring.product.search.max-scan:10000}") int maxScan) {
+        this.maxScan = maxScan;
+    }
+
+    public void put(Long number, String name) {
+        writeLock.lock();
+        try {
+            markChanged(number);
+            index(number, name);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    public void remove(Long number) {
+        writeLock.lock();
+        try {
+            markChanged(number);
+            unindex(number);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    public int size() {
+        return products.size();
+    }
+
+    /**
+     * 재구성 시작 - 이후 put/remove 된 number 는 loader 가 읽은 값으로 덮어쓰지 않음
+     */
+    public void beginRebuild() {
+        writeLock.lock();
+        try {
+            changedDuringRebuild = ConcurrentHashMap.newKeySet();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    //재구성 중 DB 에서 읽은 한 건 반영
+    public void rebuildPut(Long number, String name) {
+        writeLock.lock();
+        try {
+            Set<Long> changed = changedDuringRebuild;
+            if (changed == null || !changed.contains(number)) {
+                index(number, name);
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    public void endRebuild() {
+        changedDuringRebuild = null;
+    }
+
+    /**
+     * @param query : 검색어 (마지막 토큰은 접두어로 취급)
+     * @param limit : 최대 결과 수
+     * @return 점수 순 (마지막 토큰이 정확히 일치한 제품 먼저, 그 안에서는 이름이 짧을수록 앞), 같으면 number 순
+     * posting 이 이미 이 순서로 정렬되어 있으므로 앞에서부터 훑다가 limit 개가 확정되면 멈춤
+     * 훑은 항목이 max-scan 을 넘으면 그때까지 찾은 결과만 반환 (조건이 까다로운 검색어 하나가 색인 전체를 훑지 않도록)
+     */
+    @Override
+    public List<ProductSearchHit> search(String query, int limit) {
+        List<String> tokens = tokenize(query);
+        if (tokens.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        String prefix = tokens.get(tokens.size() - 1);
+        List<String> exactTokens = tokens.subList(0, tokens.size() - 1);
+        Scan scan = new Scan(limit, maxScan);
+        if (exactTokens.isEmpty()) {
+            scanPrefix(prefix, scan);
+        } else {
+            scanExact(exactTokens, prefix, scan);
+        }
+        return scan.hits();
+    }
+
+    /**
+     * 토큰 하나 : 접두어와 같은 토큰의 posting 을 먼저, 그다음 접두어로 시작하는 토큰의 제품을 순위 순으로
+     * 짧은 접두어는 접두어 posting 하나를 읽고 (앞에서 읽은 정확 일치 제품은 건너뜀), 긴 접두어는 토큰 별 posting 을 병합
+     */
+    private void scanPrefix(String prefix, Scan scan) {
+        Posting exact = postings.get(prefix);
+        if (exact != null) {
+            for (Ranked ranked : exact.entries) {
+                if (scan.done()) {
+                    return;
+                }
+                scan.offer(products.get(ranked.number()), true);
+            }
+        }
+        scan.exactComplete = true;
+
+        if (prefix.length() <= SHORT_PREFIX_LENGTH) {
+            Posting posting = shortPrefixPostings.get(prefix);
+            if (posting == null) {
+                return;
+            }
+            for (Ranked ranked : posting.entries) {
+                if (scan.done()) {
+                    return;
+                }
+                scan.offer(products.get(ranked.number()), false);
+            }
+            return;
+        }
+
+        PriorityQueue<Cursor> cursors = new PriorityQueue<>(Comparator.comparing(Cursor::head));
+        for (Posting posting : postings.subMap(prefix, false, prefix + Character.MAX_VALUE, false).values()) {
+            if (scan.done()) {
+                return;
+            }
+            scan.budget--;
+            Cursor cursor = new Cursor(posting.entries.iterator());
+            if (cursor.advance()) {
+                cursors.add(cursor);
+            }
+        }
+        while (!cursors.isEmpty() && !scan.done()) {
+            Cursor cursor = cursors.poll();
+            scan.offer(products.get(cursor.head().number()), false);
+            if (cursor.advance()) {
+                cursors.add(cursor);
+            }
+        }
+    }
+
+    //토큰 여러 개 : 정확히 일치해야 하는 토큰 중 posting 이 가장 작은 것을 순위 순으로 훑으며 나머지 조건 확인
+    private void scanExact(List<String> exactTokens, String prefix, Scan scan) {
+        Posting smallest = null;
+        for (String token : exactTokens) {
+            Posting posting = postings.get(token);
+            if (posting == null) {
+                return;
+            }
+            if (smallest == null || posting.size < smallest.size) {
+                smallest = posting;
+            }
+        }
+        for (Ranked ranked : smallest.entries) {
+            if (scan.done()) {
+                return;
+            }
+            IndexedProduct product = products.get(ranked.number());
+            if (product == null || !product.tokens().containsAll(exactTokens)) {
+                scan.budget--;
+                continue;
+            }
+            if (product.tokens().contains(prefix)) {
+                scan.offer(product, true);
+            } else if (product.hasTokenStartingWith(prefix)) {
+                scan.offer(product, false);
+            } else {
+                scan.budget--;
+            }
+        }
+    }
+
+    //정규화(NFKC, 소문자) 후 글자/숫자 연속 구간을 토큰으로 (중복 제거, 순서 유지)
+    static List<String> tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        List<String> tokens = new ArrayList<>();
+        int start = -1;
+        for (int i = 0; i <= normalized.length(); i++) {
+            boolean wordChar = i < normalized.length() && Character.isLetterOrDigit(normalized.charAt(i));
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                String token = normalized.substring(start, i);
+                if (!tokens.contains(token)) {
+                    tokens.add(token);
+                }
+                start = -1;
+            }
+        }
+        return tokens;
+    }
+
+    //writeLock 안에서만 호출
+    private void index(Long number, String name) {
+        unindex(number);
+        if (name == null) {
+            return;
+        }
+        IndexedProduct product = new IndexedProduct(number, name, tokenize(name));
+        products.put(number, product);
+        for (String token : product.tokens()) {
+            postings.computeIfAbsent(token, key -> new Posting()).add(product.rank());
+        }
+        for (String prefix : shortPrefixes(product.tokens())) {
+            shortPrefixPostings.computeIfAbsent(prefix, key -> new Posting()).add(product.rank());
+        }
+    }
+
+    //writeLock 안에서만 호출
+    private void unindex(Long number) {
+        IndexedProduct previous = products.remove(number);
+        if (previous == null) {
+            return;
+        }
+        for (String token : previous.tokens()) {
+            Posting posting = postings.get(token);
+            if (posting != null) {
+                posting.remove(previous.rank());
+                if (posting.size == 0) {
+                    postings.remove(token);
+                }
+            }
+        }
+        for (String prefix : shortPrefixes(previous.tokens())) {
+            Posting posting = shortPrefixPostings.get(prefix);
+            if (posting != null) {
+                posting.remove(previous.rank());
+                if (posting.size == 0) {
+                    shortPrefixPostings.remove(prefix);
+                }
+            }
+        }
+    }
+
+    //토큰마다 앞 1 ~ SHORT_PREFIX_LENGTH 글자 (중복 제거)
+    private static Set<String> shortPrefixes(List<String> tokens) {
+        Set<String> prefixes = new HashSet<>();
+        for (String token : tokens) {
+            for (int length = 1; length <= Math.min(SHORT_PREFIX_LENGTH, token.length()); length++) {
+                prefixes.add(token.substring(0, length));
+            }
+        }
+        return prefixes;
+    }
+
+    private void markChanged(Long number) {
+        Set<Long> changed = changedDuringRebuild;
+        if (changed != null) {
+            changed.add(number);
+        }
+    }
+
+    private record IndexedProduct(Long number, String name, List<String> tokens) {
+
+        private Ranked rank() {
+            return new Ranked(name.length(), number);
+        }
+
+        private boolean hasTokenStartingWith(String prefix) {
+            for (String token : tokens) {
+                if (token.startsWith(prefix)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    //posting 안의 순서 = 검색 결과 순서 (이름이 짧을수록, 같으면 number 가 작을수록 앞)
+    private record Ranked(int length, long number) implements Comparable<Ranked> {
+
+        @Override
+        public int compareTo(Ranked other) {
+            int byLength = Integer.compare(length, other.length);
+            return byLength != 0 ? byLength : Long.compare(number, other.number);
+        }
+    }
+
+    //토큰 하나의 number 목록 (순위 순), size 는 writeLock 안에서만 변경 (ConcurrentSkipListSet.size 는 전체를 셈)
+    private static final class Posting {
+        private final ConcurrentSkipListSet<Ranked> entries = new ConcurrentSkipListSet<>();
+        private volatile int size;
+
+        private void add(Ranked ranked) {
+            if (entries.add(ranked)) {
+                size++;
+            }
+        }
+
+        private void remove(Ranked ranked) {
+            if (entries.remove(ranked)) {
+                size--;
+            }
+        }
+    }
+
+    //병합 중인 posting 하나의 현재 위치
+    private static final class Cursor {
+        private final Iterator<Ranked> iterator;
+        private Ranked head;
+
+        private Cursor(Iterator<Ranked> iterator) {
+            this.iterator = iterator;
+        }
+
+        private boolean advance() {
+            if (!iterator.hasNext()) {
+                return false;
+            }
+            head = iterator.next();
+            return true;
+        }
+
+        private Ranked head() {
+            return head;
+        }
+    }
+
+    /**
+     * 검색 한 번의 상태 (요청 스레드 하나에서만 사용)
+     * exact : 마지막 토큰이 정확히 일치, partial : 접두어로만 일치 - 각각 순위 순으로 들어옴
+     */
+    private static final class Scan {
+        private final int limit;
+        private final List<IndexedProduct> exact = new ArrayList<>();
+        private final List<IndexedProduct> partial = new ArrayList<>();
+        private final Set<Long> seen = new HashSet<>();
+        private int budget;
+        //exact 후보를 모두 훑었는지 (이후 partial 이 채워지면 결과 확정)
+        private boolean exactComplete;
+
+        private Scan(int limit, int budget) {
+            this.limit = limit;
+            this.budget = budget;
+        }
+
+        private void offer(IndexedProduct product, boolean exactMatch) {
+            budget--;
+            if (product == null || !seen.add(product.number())) {
+                return;
+            }
+            if (exactMatch) {
+                exact.add(product);
+            } else if (partial.size() < limit) {
+                partial.add(product);
+            }
+        }
+
+        private boolean done() {
+            return budget <= 0 || exact.size() >= limit || (exactComplete && exact.size() + partial.size() >= limit);
+        }
+
+        private List<ProductSearchHit> hits() {
+            List<ProductSearchHit> hits = new ArrayList<>(limit);
+            for (IndexedProduct product : exact) {
+                if (hits.size() == limit) {
+                    return hits;
+                }
+                hits.add(new ProductSearchHit(product.number(), product.name()));
+            }
+            for (IndexedProduct product : partial) {
+                if (hits.size() == limit) {
+                    return hits;
+                }
+                hits.add(new ProductSearchHit(product.number(), product.name()));
+            }
+            return hits;
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.springboot.security.product.infrastructure.search;
+
+import com.springboot.security.product.domain.repository.ProductRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 시작 시 product 테이블 전체로 검색 인덱스를 채움
+ * 내보내기와 같은 커서 조회(exportProducts)를 사용하므로 테이블 전체를 한 번에 메모리에 올리지 않음
+ * 채우는 동안 들어온 등록/수정/삭제는 ProductSearchIndex 가 우선 적용 (재구성 값으로 덮어쓰지 않음)
+ */
+@Component
+public class ProductSearchIndexInitializer {
+
+    private final Logger LOGGER = LoggerFactory.getLogger(ProductSearchIndexInitializer.class);
+
+    private final ProductRepository productRepository;
+    private final ProductSearchIndex productSearchIndex;
+
+    public ProductSearchIndexInitializer(ProductRepository productRepository, ProductSearchIndex productSearchIndex) {
+        this.productRepository = productRepository;
+        this.productSearchIndex = productSearchIndex;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        productSearchIndex.beginRebuild();
+        try {
+            long rows = productRepository.exportProducts(
+                product -> productSearchIndex.rebuildPut(product.number(), product.name()));
+            LOGGER.info("[rebuild] 제품 검색 인덱스 구성 완료. rows : {}, {} ms", rows, System.currentTimeMillis() - start);
+        } catch (RuntimeException e) {
+            //인덱스가 없어도 애플리케이션은 동작 (검색 결과만 비어 있음)
+            LOGGER.error("[rebuild] 제품 검색 인덱스 구성 실패", e);
+        } finally {
+            productSearchIndex.endRebuild();
+        }
+    }
+}
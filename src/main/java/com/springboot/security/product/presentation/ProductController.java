@@ -1,20 +1,48 @@
 package com.springboot.security.product.presentation;
 
+import com.springboot.security.common.security.RequireRole;
+import com.springboot.security.product.application.ProductExportFormat;
+import com.springboot.security.product.application.ProductImportService;
+import com.springboot.security.product.application.HotStockCounter;
 import com.springboot.security.product.application.ProductService;
+import com.springboot.security.product.application.ProductStockService;
+import com.springboot.security.product.application.exception.InsufficientStockException;
+import com.springboot.security.product.domain.repository.ProductListCondition;
+import com.springboot.security.product.domain.repository.ProductSearchHit;
 import com.springboot.security.product.presentation.dto.request.ChangeProductNameDto;
 import com.springboot.security.product.presentation.dto.request.ProductDto;
+import com.springboot.security.product.presentation.dto.request.StockChangeDto;
+import com.springboot.security.product.presentation.dto.request.StockReleaseDto;
+import com.springboot.security.product.presentation.dto.response.BulkProductResultDto;
+import com.springboot.security.product.presentation.dto.response.ProductImportResultDto;
+import com.springboot.security.product.presentation.dto.response.ProductPageResponseDto;
 import com.springboot.security.product.presentation.dto.response.ProductResponseDto;
+import com.springboot.security.product.presentation.dto.response.StockReservationDto;
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.Principal;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequiredArgsConstructor
@@ -22,14 +50,99 @@ import org.springframework.web.bind.annotation.RestController;
 public class ProductController {
 
     private final ProductService productService;
+    private final ProductImportService productImportService;
+    private final ProductStockService productStockService;
+    private final HotStockCounter hotStockCounter;
 
+    //GET /product 응답의 Cache-Control (예: no-cache, public, max-age=0, must-revalidate)
+    @Value("${spring.product.http.cache-control:no-cache}")
+    private String cacheControl;
+
+    /**
+     * 조건부 GET
+     * - ETag : "number-수정시각(UTC epoch millis, 16진수)" (strong) - 같은 초 안의 두 번 변경도 구분
+     * - Last-Modified : updatedAt 을 초 단위로 내림 (HTTP 날짜는 초 단위)
+     * - If-None-Match / If-Modified-Since 가 일치하면 본문 없이 304
+     * - 수정 시각은 캐시의 스냅샷에서, 없으면 updatedAt 만 조회해서 확인 -> 304 는 엔티티를 불러오지 않음
+     * Cache-Control 을 직접 지정하면 Spring Security 의 기본값(no-store)을 덮어씀
+     */
     @GetMapping
-    public ResponseEntity<ProductResponseDto> getProduct(Long number) {
-        ProductResponseDto productResponseDto = productService.getProduct(number);
-        return ResponseEntity.status(HttpStatus.OK).body(productResponseDto);
+    public ResponseEntity<ProductResponseDto> getProduct(Long number, WebRequest webRequest,
+                                                         HttpServletResponse response) {
+        ProductResponseDto cachedProduct = productService.getCachedProduct(number);
+        long lastModified = cachedProduct != null
+            ? cachedProduct.getLastModifiedMillis()
+            : productService.getLastModified(number);
+
+        response.setHeader(HttpHeaders.CACHE_CONTROL, cacheControl);
+        if (webRequest.checkNotModified(eTag(number, lastModified), toHttpDate(lastModified))) {
+            //304 와 ETag/Last-Modified 헤더는 checkNotModified 가 설정
+            return null;
+        }
+
+        ProductResponseDto productResponseDto = cachedProduct != null ? cachedProduct : productService.getProduct(number);
+        ResponseEntity.BodyBuilder builder = ResponseEntity.status(HttpStatus.OK)
+            .eTag(eTag(number, productResponseDto.getLastModifiedMillis()));
+        if (productResponseDto.getLastModifiedMillis() >= 0) {
+            builder.lastModified(toHttpDate(productResponseDto.getLastModifiedMillis()));
+        }
+        return builder.body(productResponseDto);
+    }
+
+    private static String eTag(Long number, long lastModified) {
+        return "\"" + number + "-" + Long.toHexString(lastModified) + "\"";
+    }
+
+    //초 단위로 내림 (모르면 -1 그대로)
+    private static long toHttpDate(long lastModifiedMillis) {
+        return lastModifiedMillis < 0 ? lastModifiedMillis : lastModifiedMillis - lastModifiedMillis % 1000;
+    }
+
+    //목록 조회 (keyset) - 다음 페이지는 응답의 nextCursor 를 after 로 넘김
+    @GetMapping("/list")
+    public ResponseEntity<ProductPageResponseDto> getProducts(Long after, Integer size,
+                                                              Integer minPrice, Integer maxPrice,
+                                                              Integer minStock, Integer maxStock) {
+        ProductListCondition condition = new ProductListCondition(after, minPrice, maxPrice, minStock, maxStock);
+        ProductPageResponseDto productPageResponseDto = productService.getProducts(condition, size);
+        return ResponseEntity.status(HttpStatus.OK).body(productPageResponseDto);
     }
 
-    @PreAuthorize("hasRole('ADMIN')")
+    //이름 검색 (자동완성) - q 의 마지막 단어는 접두어로 검색
+    @GetMapping("/search")
+    public ResponseEntity<List<ProductSearchHit>> searchProducts(String q, Integer limit) {
+        List<ProductSearchHit> productSearchHits = productService.searchProducts(q, limit);
+        return ResponseEntity.status(HttpStatus.OK).body(productSearchHits);
+    }
+
+    //전체 내보내기 (format = ndjson | csv) - 요청 스레드를 반환하고 비동기로 응답 스트림에 직접 기록
+    @RequireRole("ADMIN")
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportProducts(
+        @RequestParam(defaultValue = "ndjson") String format) {
+        ProductExportFormat exportFormat = ProductExportFormat.from(format);
+        StreamingResponseBody body = outputStream -> productService.exportProducts(exportFormat, outputStream);
+        return ResponseEntity.status(HttpStatus.OK)
+            .contentType(MediaType.parseMediaType(exportFormat.getContentType()))
+            .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"products." + exportFormat.getExtension() + "\"")
+            .body(body);
+    }
+
+    /**
+     * 대량 가져오기 (format = ndjson | csv, 요청 본문이 파일 내용)
+     * 본문을 스트림으로 한 행씩 읽어 chunk 단위로 저장 - 파일 크기와 관계없이 메모리 사용량 일정
+     * 예) curl -X POST -H "X-AUTH-TOKEN: ..." --data-binary @products.csv "/product/import?format=csv"
+     */
+    @RequireRole("ADMIN")
+    @PostMapping("/import")
+    public ResponseEntity<ProductImportResultDto> importProducts(
+        @RequestParam(defaultValue = "ndjson") String format, InputStream inputStream) throws IOException {
+        ProductImportResultDto productImportResultDto =
+            productImportService.importProducts(ProductExportFormat.from(format), inputStream);
+        return ResponseEntity.status(HttpStatus.OK).body(productImportResultDto);
+    }
+
+    @RequireRole("ADMIN")
     @PostMapping
     public ResponseEntity<ProductResponseDto> createProduct(@RequestBody ProductDto productDto) {
         ProductResponseDto productResponseDto = productService.saveProduct(productDto);
@@ -51,4 +164,96 @@ public class ProductController {
 
         return ResponseEntity.status(HttpStatus.OK).body("Delete product successfully");
     }
-}
\ No newline at end of file
+
+    //========== 재고 ==========
+    //재고 예약 (부족하면 409) - 반환할 때 쓸 reservationId 반환
+    @RequireRole({"USER", "ADMIN"})
+    @PostMapping("/stock/reserve")
+    public ResponseEntity<StockReservationDto> reserveStock(@RequestBody StockChangeDto stockChangeDto,
+                                                            Principal principal) {
+        StockReservationDto stockReservationDto = productStockService.reserve(
+            stockChangeDto.getNumber(), stockChangeDto.getQuantity(), principal.getName());
+        return ResponseEntity.status(HttpStatus.OK).body(stockReservationDto);
+    }
+
+    //예약 취소 등으로 재고 반환 (본인 예약, 예약 수량 이하만)
+    @RequireRole({"USER", "ADMIN"})
+    @PostMapping("/stock/release")
+    public ResponseEntity<String> releaseStock(@RequestBody StockReleaseDto stockReleaseDto, Principal principal) {
+        productStockService.release(stockReleaseDto.getReservationId(), stockReleaseDto.getQuantity(),
+            principal.getName());
+        return ResponseEntity.status(HttpStatus.OK).body("Release stock successfully");
+    }
+
+    //인기 제품 등록 - 재고를 메모리 카운터로 처리하고 DB 에는 주기적으로 반영
+    @RequireRole("ADMIN")
+    @PostMapping("/stock/hot")
+    public ResponseEntity<String> enableHotStock(Long number) {
+        hotStockCounter.enable(number);
+        return ResponseEntity.status(HttpStatus.OK).body("Enable hot stock successfully");
+    }
+
+    @RequireRole("ADMIN")
+    @DeleteMapping("/stock/hot")
+    public ResponseEntity<String> disableHotStock(Long number) {
+        hotStockCounter.disable(number);
+        return ResponseEntity.status(HttpStatus.OK).body("Disable hot stock successfully");
+    }
+
+    //대량 등록 (chunk 단위 트랜잭션, 항목별 결과 반환)
+    @RequireRole("ADMIN")
+    @PostMapping("/bulk")
+    public ResponseEntity<BulkProductResultDto> createProducts(@RequestBody List<ProductDto> productDtos) {
+        BulkProductResultDto bulkProductResultDto = productService.saveProducts(productDtos);
+        return ResponseEntity.status(HttpStatus.OK).body(bulkProductResultDto);
+    }
+
+    @RequireRole("ADMIN")
+    @PutMapping("/bulk")
+    public ResponseEntity<BulkProductResultDto> changeProductNames(
+        @RequestBody List<ChangeProductNameDto> changeProductNameDtos) {
+        BulkProductResultDto bulkProductResultDto = productService.changeProductNames(changeProductNameDtos);
+        return ResponseEntity.status(HttpStatus.OK).body(bulkProductResultDto);
+    }
+
+    @RequireRole("ADMIN")
+    @DeleteMapping("/bulk")
+    public ResponseEntity<BulkProductResultDto> deleteProducts(@RequestBody List<Long> numbers) {
+        BulkProductResultDto bulkProductResultDto = productService.deleteProducts(numbers);
+        return ResponseEntity.status(HttpStatus.OK).body(bulkProductResultDto);
+    }
+
+    //잘못된 입력 (제품 검증 실패, 지원하지 않는 형식, CSV 헤더 오류 등)
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<Map<String, String>> illegalArgumentExceptionHandler(IllegalArgumentException e) {
+        HttpStatus httpStatus = HttpStatus.BAD_REQUEST;
+
+        Map<String, String> map = new HashMap<>();
+        map.put("error type", httpStatus.getReasonPhrase());
+        map.put("code", "400");
+        map.put("message", e.getMessage());
+        return ResponseEntity.status(httpStatus).body(map);
+    }
+
+    @ExceptionHandler(NoSuchElementException.class)
+    public ResponseEntity<Map<String, String>> noSuchElementExceptionHandler(NoSuchElementException e) {
+        HttpStatus httpStatus = HttpStatus.NOT_FOUND;
+
+        Map<String, String> map = new HashMap<>();
+        map.put("error type", httpStatus.getReasonPhrase());
+        map.put("code", "404");
+        map.put("message", "존재하지 않는 제품입니다.");
+        return ResponseEntity.status(httpStatus).body(map);
+    }
+
+    @ExceptionHandler(InsufficientStockException.class)
+    public ResponseEntity<Map<String, String>> insufficientStockExceptionHandler(InsufficientStockException e) {
+        HttpStatus httpStatus = HttpStatus.CONFLICT;
+
+        Map<String, String> map = new HashMap<>();
+        map.put("error type", httpStatus.getReasonPhrase());
+        map.put("code", "409");
+        map.put("message", e.getMessage());
+        return ResponseEntity.status(httpStatus).body(map);
+    }
+}
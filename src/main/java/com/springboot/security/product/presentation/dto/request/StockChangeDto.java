@@ -0,0 +1,12 @@
+package com.springboot.security.product.presentation.dto.request;
+
+import lombok.Getter;
+import lombok.Setter;
+
+//재고 예약 요청
+@Getter
+@Setter
+public class StockChangeDto {
+    private Long number;
+    private int quantity;
+}
@@ -0,0 +1,12 @@
+package com.springboot.security.product.presentation.dto.request;
+
+import lombok.Getter;
+import lombok.Setter;
+
+//재고 반환 요청 - 예약할 때 받은 reservationId 와 반환할 수량 (예약 수량 이하)
+@Getter
+@Setter
+public class StockReleaseDto {
+    private String reservationId;
+    private int quantity;
+}
@@ -0,0 +1,30 @@
+package com.springboot.security.product.presentation.dto.response;
+
+import lombok.Getter;
+
+/**
+ * 대량 처리 항목별 결과
+ * index : 요청 목록에서의 순서 (0부터)
+ */
+@Getter
+public class BulkItemResultDto {
+    private final int index;
+    private final Long number;
+    private final boolean success;
+    private final String message;
+
+    private BulkItemResultDto(int index, Long number, boolean success, String message) {
+        this.index = index;
+        this.number = number;
+        this.success = success;
+        this.message = message;
+    }
+
+    public static BulkItemResultDto success(int index, Long number) {
+        return new BulkItemResultDto(index, number, true, null);
+    }
+
+    public static BulkItemResultDto fail(int index, Long number, String message) {
+        return new BulkItemResultDto(index, number, false, message);
+    }
+}
@@ -0,0 +1,30 @@
+package com.springboot.security.product.presentation.dto.response;
+
+import java.util.List;
+import lombok.Getter;
+
+/**
+ * 대량 처리 결과 (성공/실패 개수 + 항목별 결과)
+ */
+@Getter
+public class BulkProductResultDto {
+    private final int succeeded;
+    private final int failed;
+    private final List<BulkItemResultDto> items;
+
+    private BulkProductResultDto(int succeeded, int failed, List<BulkItemResultDto> items) {
+        this.succeeded = succeeded;
+        this.failed = failed;
+        this.items = items;
+    }
+
+    public static BulkProductResultDto from(List<BulkItemResultDto> items) {
+        int succeeded = 0;
+        for (BulkItemResultDto item : items) {
+            if (item.isSuccess()) {
+                succeeded++;
+            }
+        }
+        return new BulkProductResultDto(succeeded, items.size() - succeeded, items);
+    }
+}
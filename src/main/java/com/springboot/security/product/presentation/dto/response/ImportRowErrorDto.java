@@ -0,0 +1,22 @@
+package com.springboot.security.product.presentation.dto.response;
+
+import lombok.Getter;
+
+/**
+ * 가져오기 실패 행
+ * line : 파일에서의 줄 번호 (1부터, CSV 헤더 포함)
+ */
+@Getter
+public class ImportRowErrorDto {
+    private final long line;
+    private final String message;
+
+    private ImportRowErrorDto(long line, String message) {
+        this.line = line;
+        this.message = message;
+    }
+
+    public static ImportRowErrorDto of(long line, String message) {
+        return new ImportRowErrorDto(line, message);
+    }
+}
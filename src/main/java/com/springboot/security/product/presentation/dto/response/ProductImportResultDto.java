@@ -0,0 +1,33 @@
+package com.springboot.security.product.presentation.dto.response;
+
+import java.util.List;
+import lombok.Getter;
+
+/**
+ * 가져오기 결과
+ * errors 는 최대 spring.product.import.max-errors 개까지만 담음 (errorsTruncated = true 면 더 있음)
+ */
+@Getter
+public class ProductImportResultDto {
+    private final long rows;
+    private final long succeeded;
+    private final long failed;
+    private final List<ImportRowErrorDto> errors;
+    private final boolean errorsTruncated;
+    private final long elapsedMillis;
+
+    private ProductImportResultDto(long rows, long succeeded, long failed, List<ImportRowErrorDto> errors,
+                                   boolean errorsTruncated, long elapsedMillis) {
+        this.rows = rows;
+        this.succeeded = succeeded;
+        this.failed = failed;
+        this.errors = errors;
+        this.errorsTruncated = errorsTruncated;
+        this.elapsedMillis = elapsedMillis;
+    }
+
+    public static ProductImportResultDto of(long rows, long succeeded, long failed, List<ImportRowErrorDto> errors,
+                                            boolean errorsTruncated, long elapsedMillis) {
+        return new ProductImportResultDto(rows, succeeded, failed, errors, errorsTruncated, elapsedMillis);
+    }
+}
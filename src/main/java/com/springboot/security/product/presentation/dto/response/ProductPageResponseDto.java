@@ -0,0 +1,30 @@
+package com.springboot.security.product.presentation.dto.response;
+
+import com.springboot.security.product.domain.repository.ProductSummary;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Getter;
+
+/**
+ * 목록 조회 응답
+ * nextCursor : 다음 페이지 요청 시 after 로 넘길 값 (마지막 페이지면 null)
+ */
+@Getter
+public class ProductPageResponseDto {
+    private final List<ProductResponseDto> items;
+    private final Long nextCursor;
+
+    private ProductPageResponseDto(List<ProductResponseDto> items, Long nextCursor) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+    }
+
+    public static ProductPageResponseDto of(List<ProductSummary> summaries, boolean hasNext) {
+        List<ProductResponseDto> items = new ArrayList<>(summaries.size());
+        for (ProductSummary summary : summaries) {
+            items.add(ProductResponseDto.of(summary.number(), summary.name(), summary.price(), summary.stock()));
+        }
+        Long nextCursor = hasNext && !items.isEmpty() ? items.get(items.size() - 1).getNumber() : null;
+        return new ProductPageResponseDto(items, nextCursor);
+    }
+}
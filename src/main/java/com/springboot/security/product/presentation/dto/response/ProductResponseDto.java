@@ -1,6 +1,13 @@
 package com.springboot.security.product.presentation.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.springboot.security.common.json.JsonEncodable;
+import com.springboot.security.common.json.JsonStrings;
 import com.springboot.security.product.domain.entity.Product;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import lombok.AccessLevel;
 import lombok.Getter;
 
 /**
@@ -13,22 +20,33 @@ import lombok.Getter;
  *  immutable구조.
  */
 @Getter
-public class ProductResponseDto {
+public class ProductResponseDto implements JsonEncodable {
     private final Long number;
     private final String name;
     private final int  price;
     private final int stock;
+    //조건부 GET(ETag/Last-Modified)용 수정 시각 (epoch millis, 모르면 -1) - 응답 본문에는 넣지 않음
+    @JsonIgnore
+    private final long lastModifiedMillis;
+    //인코딩한 JSON (처음 응답할 때 한 번 만들고 재사용)
+    //스냅샷 캐시에 들어 있는 동안 재사용되고, 제품이 변경되면 스냅샷과 함께 캐시에서 빠짐
+    //여러 스레드가 동시에 만들어도 결과가 같으므로 잠그지 않음
+    //volatile : 배열 참조만 보이고 내용은 아직 안 보이는 일이 없도록 (안전한 공개)
+    @Getter(AccessLevel.NONE)
+    @JsonIgnore
+    private volatile byte[] json;
 
-    private ProductResponseDto(Long number, String name, int price, int stock) {
+    private ProductResponseDto(Long number, String name, int price, int stock, long lastModifiedMillis) {
         this.number = number;
         this.name = name;
         this.price = price;
         this.stock = stock;
+        this.lastModifiedMillis = lastModifiedMillis;
     }
 
     //테스트용 팩토리 메서드
     public static ProductResponseDto of(Long number, String name, int price, int stock) {
-        return new ProductResponseDto(number, name, price, stock);
+        return new ProductResponseDto(number, name, price, stock, -1L);
     }
 
 
@@ -39,9 +57,38 @@ public class ProductResponseDto {
             product.getNumber(),
             product.getName(),
             product.getPrice(),
-            product.getStock()
+            product.getStock(),
+            toEpochMillis(product.getUpdatedAt())
         );
     }
 
+    //이름만 바뀐 스냅샷 (가격/재고는 그대로)
+    public ProductResponseDto withName(String name, long lastModifiedMillis) {
+        return new ProductResponseDto(number, name, price, stock, lastModifiedMillis);
+    }
+
+    //updatedAt 은 UTC 의 LocalDateTime 으로 저장됨 (Product.currentTime) - 서버 시간대와 상관없이 같은 값
+    public static long toEpochMillis(LocalDateTime dateTime) {
+        if (dateTime == null) {
+            return -1L;
+        }
+        return dateTime.toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
 
+    //{"number":1,"name":"...","price":1000,"stock":10} - Jackson 직렬화 결과와 같은 형태
+    @Override
+    public byte[] toJsonBytes() {
+        byte[] encoded = json;
+        if (encoded == null) {
+            StringBuilder builder = new StringBuilder(64 + (name == null ? 0 : name.length()));
+            builder.append("{\"number\":").append(number).append(",\"name\":");
+            JsonStrings.appendQuoted(builder, name);
+            builder.append(",\"price\":").append(price)
+                .append(",\"stock\":").append(stock)
+                .append('}');
+            encoded = builder.toString().getBytes(StandardCharsets.UTF_8);
+            json = encoded;
+        }
+        return encoded;
+    }
 }
@@ -0,0 +1,24 @@
+package com.springboot.security.product.presentation.dto.response;
+
+import lombok.Getter;
+
+/**
+ * 재고 예약 결과
+ * reservationId : 반환(POST /product/stock/release) 할 때 넘길 값
+ */
+@Getter
+public class StockReservationDto {
+    private final String reservationId;
+    private final Long number;
+    private final int quantity;
+
+    private StockReservationDto(String reservationId, Long number, int quantity) {
+        this.reservationId = reservationId;
+        this.number = number;
+        this.quantity = quantity;
+    }
+
+    public static StockReservationDto of(String reservationId, Long number, int quantity) {
+        return new StockReservationDto(reservationId, number, quantity);
+    }
+}
@@ -0,0 +1,113 @@
+package com.springboot.security.user.application;
+
+import com.springboot.security.user.application.exception.InvalidRefreshTokenException;
+import com.springboot.security.user.domain.entity.RefreshToken;
+import com.springboot.security.user.domain.repository.RefreshTokenRepository;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.UUID;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * 리프레시 토큰 발급/사용
+ *
+ * 1. issue : 랜덤 256bit 토큰 발급, DB에는 SHA-256 해시만 저장
+ * 2. consume : 해시로 조회 후 사용 처리 (rotation - 한 번만 사용 가능)
+ *    - 이미 사용된 토큰이면 탈취로 보고 같은 family 전체 폐기
+ * 3. revoke : 로그아웃 시 토큰이 속한 family 전체 폐기
+ * 4. deleteExpired : 만료된 토큰 주기적으로 삭제
+ *
+ * 비밀번호 해시(BCrypt)는 전혀 사용하지 않음 -> 토큰 갱신 비용은 해시 한 번 + 인덱스 조회
+ */
+@Service
+public class RefreshTokenService {
+
+    private final Logger LOGGER = LoggerFactory.getLogger(RefreshTokenService.class);
+    private final SecureRandom secureRandom = new SecureRandom();
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final long refreshTokenValidMillisecond;
+
+    public RefreshTokenService(RefreshTokenRepository refreshTokenRepository,
+        @Value("${spring.jwt.refresh-token-valid-millis:1209600000}") long refreshTokenValidMillisecond) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.refreshTokenValidMillisecond = refreshTokenValidMillisecond;
+    }
+
+    //로그인 시 새 family 로 발급
+    public String issue(String uid) {
+        return issue(uid, UUID.randomUUID().toString());
+    }
+
+    public String issue(String uid, String familyId) {
+        byte[] bytes = new byte[32];
+        secureRandom.nextBytes(bytes);
+        String rawToken = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+        LocalDateTime expiresAt = LocalDateTime.now().plus(Duration.ofMillis(refreshTokenValidMillisecond));
+        refreshTokenRepository.save(RefreshToken.create(hash(rawToken), familyId, uid, expiresAt));
+        return rawToken;
+    }
+
+    /**
+     * 리프레시 토큰 사용 처리
+     * @return 사용 처리된 토큰 (uid, familyId 로 새 토큰 발급)
+     */
+    public RefreshToken consume(String rawToken) {
+        if (rawToken == null || rawToken.isBlank()) {
+            throw new InvalidRefreshTokenException("리프레시 토큰이 없습니다.");
+        }
+        RefreshToken refreshToken = refreshTokenRepository.findByTokenHash(hash(rawToken))
+            .orElseThrow(() -> new InvalidRefreshTokenException("존재하지 않는 리프레시 토큰입니다."));
+
+        //조건부 update 로 사용 처리 - 이미 사용(폐기)된 토큰이면 재사용 시도
+        if (refreshToken.isRevoked() || !refreshTokenRepository.markUsed(refreshToken.getId())) {
+            int revoked = refreshTokenRepository.revokeFamily(refreshToken.getFamilyId());
+            LOGGER.warn("[consume] 이미 사용된 리프레시 토큰 재사용 감지. uid : {}, 폐기된 토큰 수 : {}", refreshToken.getUid(), revoked);
+            throw new InvalidRefreshTokenException("이미 사용된 리프레시 토큰입니다.");
+        }
+        if (refreshToken.isExpired(LocalDateTime.now())) {
+            throw new InvalidRefreshTokenException("만료된 리프레시 토큰입니다.");
+        }
+        return refreshToken;
+    }
+
+    public int revokeFamily(String familyId) {
+        return refreshTokenRepository.revokeFamily(familyId);
+    }
+
+    //로그아웃 - 리프레시 토큰 원문으로 family 전체 폐기
+    public int revoke(String rawToken) {
+        if (rawToken == null || rawToken.isBlank()) {
+            return 0;
+        }
+        return refreshTokenRepository.findByTokenHash(hash(rawToken))
+            .map(refreshToken -> refreshTokenRepository.revokeFamily(refreshToken.getFamilyId()))
+            .orElse(0);
+    }
+
+    @Scheduled(fixedDelayString = "${spring.jwt.refresh-token-cleanup-millis:3600000}")
+    public void deleteExpired() {
+        int deleted = refreshTokenRepository.deleteExpired(LocalDateTime.now());
+        LOGGER.info("[deleteExpired] 만료된 리프레시 토큰 삭제 : {}", deleted);
+    }
+
+    private static String hash(String rawToken) {
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(messageDigest.digest(rawToken.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package com.springboot.security.user.application;
 
+import com.springboot.security.user.application.command.LogoutCommand;
+import com.springboot.security.user.application.command.RefreshCommand;
 import com.springboot.security.user.application.command.SignInCommand;
 import com.springboot.security.user.application.command.SignUpCommand;
 import com.springboot.security.user.presentation.dto.response.SignInResult;
@@ -10,4 +12,10 @@ public interface SignService {
 
     SignInResult signIn(SignInCommand signInCommand) throws RuntimeException;
 
+    SignInResult refresh(RefreshCommand refreshCommand) throws RuntimeException;
+
+    SignUpResult logout(LogoutCommand logoutCommand);
+
+    SignUpResult revokeToken(String token);
+
 }
@@ -1,18 +1,24 @@
 package com.springboot.security.user.application;
 
 import com.springboot.security.common.CommonResponse;
+import com.springboot.security.user.application.command.LogoutCommand;
+import com.springboot.security.user.application.command.RefreshCommand;
 import com.springboot.security.user.application.command.SignInCommand;
 import com.springboot.security.user.application.command.SignUpCommand;
+import com.springboot.security.user.application.exception.InvalidRefreshTokenException;
+import com.springboot.security.user.domain.entity.RefreshToken;
 import com.springboot.security.user.domain.entity.User;
 import com.springboot.security.user.domain.repository.UserRepository;
 import com.springboot.security.user.infrastructure.config.security.JwtTokenProvider;
+import com.springboot.security.user.infrastructure.config.security.LoginThrottle;
+import com.springboot.security.user.infrastructure.config.security.PasswordHashingExecutor;
 import com.springboot.security.user.presentation.dto.response.SignInResult;
 import com.springboot.security.user.presentation.dto.response.SignUpResult;
 import java.util.Collections;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.stereotype.Service;
 
 @Service
@@ -22,14 +28,19 @@ public class SignServiceImpl implements SignService{
 
     public UserRepository userRepository;
     public JwtTokenProvider jwtTokenProvider;
-    public PasswordEncoder passwordEncoder; //SecurityConfiguration에 정의
+    public PasswordHashingExecutor passwordHashingExecutor; //비밀번호 해시는 전용 스레드에서 실행 (PasswordEncoder는 SecurityConfiguration에 정의)
+    public RefreshTokenService refreshTokenService;
+    public LoginThrottle loginThrottle;
 
     @Autowired
     public SignServiceImpl(UserRepository userRepository, JwtTokenProvider jwtTokenProvider,
-        PasswordEncoder passwordEncoder) {
+        PasswordHashingExecutor passwordHashingExecutor, RefreshTokenService refreshTokenService,
+        LoginThrottle loginThrottle) {
         this.userRepository = userRepository;
         this.jwtTokenProvider = jwtTokenProvider;
-        this.passwordEncoder = passwordEncoder;
+        this.passwordHashingExecutor = passwordHashingExecutor;
+        this.refreshTokenService = refreshTokenService;
+        this.loginThrottle = loginThrottle;
     }
 
     /**
@@ -51,14 +62,14 @@ public class SignServiceImpl implements SignService{
             user = User.builder()
                 .uid(id)
                 .name(name)
-                .password(passwordEncoder.encode(password)) //비밀번호 인코딩해서 저장
+                .password(passwordHashingExecutor.encode(password)) //비밀번호 인코딩해서 저장
                 .roles(Collections.singletonList("ROLE_ADMIN"))
                 .build();
         } else { //나머지는 "ROLE_USER"로 저장
             user = User.builder()
                 .uid(id)
                 .name(name)
-                .password(passwordEncoder.encode(password))
+                .password(passwordHashingExecutor.encode(password))
                 .roles(Collections.singletonList("ROLE_USER"))
                 .build();
         }
@@ -84,28 +95,89 @@ public class SignServiceImpl implements SignService{
 
         String id = signInCommand.id();
         String password = signInCommand.password();
+        String clientAddress = signInCommand.clientAddress();
+
+        //DB 조회, 비밀번호 비교 전에 시도 횟수 제한 확인 (초과하면 LoginThrottledException)
+        loginThrottle.acquire(id, clientAddress);
 
         LOGGER.info("[getSignInResult] signDataHandler 로 회원 정보 요청");
         User user = userRepository.getByUid(id); //존재하는 id 인지 조회
         LOGGER.info("[getSignInResult] Id : {}", id);
 
         LOGGER.info("[getSignInResult] 패스워드 비교 수행");
-        if (!passwordEncoder.matches(password, user.getPassword())) { //비밀번호 비교
-            throw new RuntimeException();
+        if (user == null) {
+            //없는 아이디도 BCrypt 비교 한 번의 시간이 걸리도록 (응답 시간으로 아이디 존재 여부 확인 방지)
+            passwordHashingExecutor.matchesDummy(password);
+        }
+        if (user == null || !passwordHashingExecutor.matches(password, user.getPassword())) { //비밀번호 비교
+            loginThrottle.onFailure(id, clientAddress);
+            throw new BadCredentialsException("아이디 또는 비밀번호가 일치하지 않습니다.");
         }
 
+        loginThrottle.onSuccess(id, clientAddress);
         LOGGER.info("[getSignInResult] 패스워드 일치");
 
 
         LOGGER.info("[getSignInResult] SignInResultDto 객체 생성");
         SignInResult signInResult = new SignInResult(
             createSuccessResult(),
-            jwtTokenProvider.createToken(String.valueOf(user.getUid()), user.getRoles()));
+            jwtTokenProvider.createToken(String.valueOf(user.getUid()), user.getRoles()),
+            refreshTokenService.issue(user.getUid()));
 
         LOGGER.info("[getSignInResult] SignInResultDto 객체에 값 주입");
         return signInResult;
     }
 
+    /**
+     * 토큰 갱신 - 비밀번호 비교 없이 리프레시 토큰으로 새 access/refresh 토큰 발급
+     * 사용한 리프레시 토큰은 폐기되고 같은 family 로 새 리프레시 토큰 발급 (rotation)
+     */
+    @Override
+    public SignInResult refresh(RefreshCommand refreshCommand) throws RuntimeException {
+        LOGGER.info("[refresh] 리프레시 토큰으로 토큰 갱신 시작");
+        RefreshToken usedToken = refreshTokenService.consume(refreshCommand.refreshToken());
+
+        //권한 변경이 반영되도록 사용자 정보는 다시 조회 (UserPrincipalCache 에서 처리)
+        User user = userRepository.getByUid(usedToken.getUid());
+        if (user == null) {
+            refreshTokenService.revokeFamily(usedToken.getFamilyId());
+            throw new InvalidRefreshTokenException("존재하지 않는 사용자입니다.");
+        }
+
+        SignInResult signInResult = new SignInResult(
+            createSuccessResult(),
+            jwtTokenProvider.createToken(user.getUid(), user.getRoles()),
+            refreshTokenService.issue(user.getUid(), usedToken.getFamilyId()));
+
+        LOGGER.info("[refresh] 토큰 갱신 완료. uid : {}", user.getUid());
+        return signInResult;
+    }
+
+    /**
+     * 로그아웃 - access 토큰은 만료 시각까지 폐기 목록에 등록, 리프레시 토큰은 family 전체 폐기
+     */
+    @Override
+    public SignUpResult logout(LogoutCommand logoutCommand) {
+        boolean revoked = jwtTokenProvider.revokeToken(logoutCommand.accessToken());
+        int revokedRefreshTokens = refreshTokenService.revoke(logoutCommand.refreshToken());
+        LOGGER.info("[logout] access 토큰 폐기 : {}, 리프레시 토큰 폐기 : {}", revoked, revokedRefreshTokens);
+        return createSuccessResult();
+    }
+
+    //관리자 토큰 폐기
+    @Override
+    public SignUpResult revokeToken(String token) {
+        if (token == null || token.isBlank()) { //요청 본문에 token 이 없으면 파싱하지 않고 실패 응답
+            LOGGER.info("[revokeToken] 폐기할 토큰이 없음");
+            return createFailResult();
+        }
+        if (!jwtTokenProvider.revokeToken(token)) {
+            LOGGER.info("[revokeToken] 이미 유효하지 않은 토큰");
+            return createFailResult();
+        }
+        return createSuccessResult();
+    }
+
     private SignUpResult createSuccessResult() {
         return new SignUpResult(
             true,
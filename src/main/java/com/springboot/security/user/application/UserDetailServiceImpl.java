@@ -1,6 +1,7 @@
 package com.springboot.security.user.application;
 
 import com.springboot.security.user.domain.repository.UserRepository;
+import com.springboot.security.user.infrastructure.config.security.AuthMetrics;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -14,12 +15,18 @@ public class UserDetailServiceImpl implements UserDetailsService { //UserDetails
 
     private final Logger LOGGER = LoggerFactory.getLogger(UserDetailServiceImpl.class);
     private final UserRepository userRepository;
+    private final AuthMetrics authMetrics;
 
 
     //UserDetails에 조회한 유저의 정보(username, password, Authorities)를 담아 인증에 사용
     @Override
     public UserDetails loadUserByUsername(String username)  { //로그인할 때 자동으로 호출되는 메서드
         LOGGER.info("[loadUserByUsername] loadUserByUsername 수행. username = {}", username);
-        return userRepository.getByUid(username); //userDetails의 구현체로 만든 Usr 객체 반환
+        long start = System.nanoTime();
+        try {
+            return userRepository.getByUid(username); //userDetails의 구현체로 만든 Usr 객체 반환
+        } finally {
+            authMetrics.recordUserLoad(start);
+        }
     }
 }
@@ -0,0 +1,8 @@
+package com.springboot.security.user.application.command;
+
+public record LogoutCommand(
+    String accessToken,
+    String refreshToken
+) {
+
+}
@@ -0,0 +1,7 @@
+package com.springboot.security.user.application.command;
+
+public record RefreshCommand(
+    String refreshToken
+) {
+
+}
@@ -2,7 +2,8 @@ package com.springboot.security.user.application.command;
 
 public record SignInCommand(
     String id,
-    String password
+    String password,
+    String clientAddress
 ) {
 
 }
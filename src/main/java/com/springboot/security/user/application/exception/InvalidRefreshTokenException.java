@@ -0,0 +1,9 @@
+package com.springboot.security.user.application.exception;
+
+//리프레시 토큰이 없거나, 만료되었거나, 이미 사용된 경우
+public class InvalidRefreshTokenException extends RuntimeException {
+
+    public InvalidRefreshTokenException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,17 @@
+package com.springboot.security.user.application.exception;
+
+//로그인 시도 제한에 걸린 경우 -> 429 + Retry-After
+//공격 중에는 대량으로 발생하므로 스택 트레이스를 만들지 않음
+public class LoginThrottledException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public LoginThrottledException(long retryAfterSeconds) {
+        super("로그인 시도가 너무 많습니다.", null, false, false);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
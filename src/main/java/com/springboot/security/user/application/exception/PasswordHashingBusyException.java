@@ -0,0 +1,16 @@
+package com.springboot.security.user.application.exception;
+
+//비밀번호 해시 작업 대기열이 가득 차서 요청을 바로 거절한 경우 -> 503 + Retry-After
+public class PasswordHashingBusyException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public PasswordHashingBusyException(long retryAfterSeconds) {
+        super("비밀번호 처리 요청이 많습니다. 잠시 후 다시 시도해주세요.");
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
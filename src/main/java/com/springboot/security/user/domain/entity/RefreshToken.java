@@ -0,0 +1,61 @@
+package com.springboot.security.user.domain.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 리프레시 토큰
+ *
+ * - 토큰 원문은 저장하지 않고 SHA-256 해시만 저장 (tokenHash 유니크 인덱스로 O(1) 조회)
+ * - 한 번 사용하면 revoked 처리하고 같은 family 로 새 토큰 발급 (rotation)
+ * - 이미 사용된 토큰이 다시 들어오면 탈취로 보고 family 전체를 폐기 (familyId 인덱스)
+ */
+@Getter
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED) //jpa용
+@AllArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "p_refresh_token", indexes = {
+    @Index(name = "idx_refresh_token_family", columnList = "familyId")
+})
+public class RefreshToken {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, unique = true, length = 64)
+    private String tokenHash;
+
+    //로그인 한 번에서 시작된 토큰 묶음 id (rotation 해도 유지)
+    @Column(nullable = false, length = 36)
+    private String familyId;
+
+    @Column(nullable = false)
+    private String uid;
+
+    @Column(nullable = false)
+    private LocalDateTime expiresAt;
+
+    @Column(nullable = false)
+    private boolean revoked;
+
+    private LocalDateTime createdAt;
+
+    public static RefreshToken create(String tokenHash, String familyId, String uid, LocalDateTime expiresAt) {
+        return new RefreshToken(null, tokenHash, familyId, uid, expiresAt, false, LocalDateTime.now());
+    }
+
+    public boolean isExpired(LocalDateTime now) {
+        return expiresAt.isBefore(now);
+    }
+}
@@ -0,0 +1,118 @@
+package com.springboot.security.user.domain.entity;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.springframework.security.core.GrantedAuthority;
+
+/**
+ * 권한(ROLE_xxx) 값 객체 - 권한 이름마다 인스턴스 하나만 만들어 공유 (intern)
+ * <p>
+ * - 권한마다 비트 하나를 할당 -> 사용자의 권한 목록을 long 비트마스크로 표현, 권한 확인은 비트 연산
+ * - 같은 권한 조합(비트마스크)은 같은 불변 List 를 공유 -> 요청마다 SimpleGrantedAuthority/List 를 만들지 않음
+ * - 비트는 최대 63개까지 할당, 그 이후의 권한은 비트 없이(mask 0) 이름으로만 비교
+ */
+public final class RoleAuthority implements GrantedAuthority {
+
+    private static final int MAX_BITS = 63;
+    private static final ConcurrentHashMap<String, RoleAuthority> REGISTRY = new ConcurrentHashMap<>();
+    private static final ConcurrentHashMap<Long, List<GrantedAuthority>> LISTS_BY_MASK = new ConcurrentHashMap<>();
+    private static final AtomicInteger NEXT_BIT = new AtomicInteger();
+
+    //자주 쓰는 권한은 먼저 등록해서 비트를 고정
+    public static final RoleAuthority USER = of("ROLE_USER");
+    public static final RoleAuthority ADMIN = of("ROLE_ADMIN");
+
+    private final String authority;
+    private final long mask;
+
+    private RoleAuthority(String authority, long mask) {
+        this.authority = authority;
+        this.mask = mask;
+    }
+
+    public static RoleAuthority of(String authority) {
+        RoleAuthority existing = REGISTRY.get(authority);
+        if (existing != null) {
+            return existing;
+        }
+        return REGISTRY.computeIfAbsent(authority, key -> {
+            int bit = NEXT_BIT.getAndIncrement();
+            return new RoleAuthority(key, bit < MAX_BITS ? 1L << bit : 0L);
+        });
+    }
+
+    //권한 이름 목록 -> 비트마스크
+    public static long maskOf(Collection<String> roles) {
+        long mask = 0L;
+        for (String role : roles) {
+            mask |= of(role).mask;
+        }
+        return mask;
+    }
+
+    /**
+     * 권한 이름 목록 -> 공유되는 불변 권한 목록
+     * 모든 권한에 비트가 있으면 같은 조합끼리 같은 List 인스턴스를 반환
+     */
+    public static List<GrantedAuthority> authoritiesOf(Collection<String> roles) {
+        if (roles.isEmpty()) {
+            return Collections.emptyList();
+        }
+        long mask = 0L;
+        boolean allMasked = true;
+        for (String role : roles) {
+            long roleMask = of(role).mask;
+            allMasked &= roleMask != 0L;
+            mask |= roleMask;
+        }
+        if (!allMasked) {
+            return build(roles);
+        }
+        List<GrantedAuthority> cached = LISTS_BY_MASK.get(mask);
+        return cached != null ? cached : LISTS_BY_MASK.computeIfAbsent(mask, key -> build(roles));
+    }
+
+    private static List<GrantedAuthority> build(Collection<String> roles) {
+        List<GrantedAuthority> authorities = new ArrayList<>(roles.size());
+        for (String role : roles) {
+            RoleAuthority authority = of(role);
+            if (!authorities.contains(authority)) {
+                authorities.add(authority);
+            }
+        }
+        return Collections.unmodifiableList(authorities);
+    }
+
+    @Override
+    public String getAuthority() {
+        return authority;
+    }
+
+    //이 권한의 비트 (비트를 할당받지 못했으면 0)
+    public long mask() {
+        return mask;
+    }
+
+    //이름이 같으면 같은 권한 (인스턴스를 공유하므로 보통 == 에서 끝남)
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        return other instanceof RoleAuthority that && authority.equals(that.authority);
+    }
+
+    @Override
+    public int hashCode() {
+        return authority.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return authority;
+    }
+}
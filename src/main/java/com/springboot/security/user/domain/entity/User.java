@@ -12,14 +12,12 @@ import jakarta.persistence.Table;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
-import java.util.stream.Collectors;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 
 
@@ -65,17 +63,14 @@ public class User implements UserDetails { //사용자 인증 정보로 사용
     /**
      * Collection : 자바에서 객체의 그룹(List, Set 등)을 나타내는 인터페이스
      * ? extends GrantedAuthority : 상한제한(upper bound) : GrantedAuthority를 상속받은 어떤 객체든 가능
-     * stream: 각 요소를 순차적으로 처리할 것임
-     * map : 스트림의 각 요소를 다른 객체로 변환할 것임 (SimpleGrantedAuthority 객체로 변환)
-     * .collect(Collectors.toList()): 스트림에서 처리한 결과를 다시 리스트로 모음
+     * RoleAuthority.authoritiesOf : 같은 권한 조합이면 미리 만들어 둔 불변 목록을 공유 (호출마다 새 객체를 만들지 않음)
      *
      * @return GrantedAuthority를 상속받은 객체를 Collection(List나 Set) 형태로 반환할 것임
      */
     //유저가 가진 권한들을 list로 반환하는 메서드
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {  //userdetails의 메서드 구현
-        //roles 리스트의 요소를 하나하나 뽑아서 SimpleGrantedAuthority객체로 변환후 List로 반환할 것임
-        return this.roles.stream().map(SimpleGrantedAuthority::new).collect(Collectors.toList());
+        return RoleAuthority.authoritiesOf(this.roles);
     }
 
     //쓰기전용 (응답에 미포함)
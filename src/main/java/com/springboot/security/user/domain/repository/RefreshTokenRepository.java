@@ -0,0 +1,20 @@
+package com.springboot.security.user.domain.repository;
+
+import com.springboot.security.user.domain.entity.RefreshToken;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+public interface RefreshTokenRepository {
+
+    RefreshToken save(RefreshToken refreshToken);
+
+    Optional<RefreshToken> findByTokenHash(String tokenHash);
+
+    //아직 사용되지 않은 토큰일 때만 사용 처리 -> 처리했으면 true (동시에 같은 토큰이 들어와도 한 번만 성공)
+    boolean markUsed(Long id);
+
+    //family 전체 폐기, 폐기된 개수 반환
+    int revokeFamily(String familyId);
+
+    int deleteExpired(LocalDateTime now);
+}
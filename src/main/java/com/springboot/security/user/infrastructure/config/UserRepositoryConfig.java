@@ -1,8 +1,13 @@
 package com.springboot.security.user.infrastructure.config;
 
+import com.springboot.security.user.domain.repository.RefreshTokenRepository;
 import com.springboot.security.user.domain.repository.UserRepository;
+import com.springboot.security.user.infrastructure.repository.RefreshTokenJpaRepository;
+import com.springboot.security.user.infrastructure.repository.RefreshTokenRepositoryAdapter;
 import com.springboot.security.user.infrastructure.repository.UserJpaRepository;
+import com.springboot.security.user.infrastructure.repository.UserPrincipalCache;
 import com.springboot.security.user.infrastructure.repository.UserRepositoryAdapter;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -11,7 +16,13 @@ public class UserRepositoryConfig {
 
 
     @Bean
-    public UserRepository userRepository(UserJpaRepository userJpaRepository) {
-        return new UserRepositoryAdapter(userJpaRepository);
+    public UserRepository userRepository(UserJpaRepository userJpaRepository,
+        UserPrincipalCache userPrincipalCache, MeterRegistry meterRegistry) {
+        return new UserRepositoryAdapter(userJpaRepository, userPrincipalCache, meterRegistry);
+    }
+
+    @Bean
+    public RefreshTokenRepository refreshTokenRepository(RefreshTokenJpaRepository refreshTokenJpaRepository) {
+        return new RefreshTokenRepositoryAdapter(refreshTokenJpaRepository);
     }
 }
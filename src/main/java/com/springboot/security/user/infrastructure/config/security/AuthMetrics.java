@@ -0,0 +1,83 @@
+package com.springboot.security.user.infrastructure.config.security;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import org.springframework.stereotype.Component;
+
+/**
+ * 인증 경로 지표 (/actuator/prometheus)
+ * - auth.token.verification : 토큰 검증 시간 (cache=hit|miss)
+ * - auth.token.outcomes     : 토큰 검증 결과 수 (outcome=valid|expired|bad_signature|malformed|revoked|missing)
+ * - auth.user.load          : UserDetailsService 사용자 조회 시간
+ * - auth.password.hashing   : BCrypt 해시/비교 시간 (operation=encode|matches, 실행기 대기 시간 제외)
+ * 미터는 생성 시 모두 등록해 두고 배열/필드로 꺼내 씀 -> 기록할 때 객체를 만들지 않음
+ */
+@Component
+public class AuthMetrics {
+
+    public enum TokenOutcome {
+        VALID, EXPIRED, BAD_SIGNATURE, MALFORMED, REVOKED, MISSING
+    }
+
+    public enum PasswordOperation {
+        ENCODE, MATCHES
+    }
+
+    private final Counter[] tokenOutcomes;
+    private final Timer tokenVerificationCacheHit;
+    private final Timer tokenVerificationCacheMiss;
+    private final Timer userLoad;
+    private final Timer[] passwordHashing;
+
+    public AuthMetrics(MeterRegistry meterRegistry) {
+        TokenOutcome[] outcomes = TokenOutcome.values();
+        this.tokenOutcomes = new Counter[outcomes.length];
+        for (TokenOutcome outcome : outcomes) {
+            tokenOutcomes[outcome.ordinal()] = Counter.builder("auth.token.outcomes")
+                .description("토큰 검증 결과")
+                .tag("outcome", outcome.name().toLowerCase(Locale.ROOT))
+                .register(meterRegistry);
+        }
+        this.tokenVerificationCacheHit = tokenVerificationTimer(meterRegistry, "hit");
+        this.tokenVerificationCacheMiss = tokenVerificationTimer(meterRegistry, "miss");
+        this.userLoad = Timer.builder("auth.user.load")
+            .description("UserDetailsService 사용자 조회 시간")
+            .register(meterRegistry);
+        PasswordOperation[] operations = PasswordOperation.values();
+        this.passwordHashing = new Timer[operations.length];
+        for (PasswordOperation operation : operations) {
+            passwordHashing[operation.ordinal()] = Timer.builder("auth.password.hashing")
+                .description("비밀번호 해시/비교 시간")
+                .tag("operation", operation.name().toLowerCase(Locale.ROOT))
+                .register(meterRegistry);
+        }
+    }
+
+    public void countToken(TokenOutcome outcome) {
+        tokenOutcomes[outcome.ordinal()].increment();
+    }
+
+    //startNanos : 시작 시각 (System.nanoTime)
+    public void recordTokenVerification(boolean cacheHit, long startNanos) {
+        (cacheHit ? tokenVerificationCacheHit : tokenVerificationCacheMiss)
+            .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordUserLoad(long startNanos) {
+        userLoad.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordPasswordHashing(PasswordOperation operation, long elapsedNanos) {
+        passwordHashing[operation.ordinal()].record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private static Timer tokenVerificationTimer(MeterRegistry meterRegistry, String cache) {
+        return Timer.builder("auth.token.verification")
+            .description("토큰 파싱/서명 검증 시간")
+            .tag("cache", cache)
+            .register(meterRegistry);
+    }
+}
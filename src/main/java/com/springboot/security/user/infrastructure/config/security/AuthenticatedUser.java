@@ -0,0 +1,68 @@
+package com.springboot.security.user.infrastructure.config.security;
+
+import com.springboot.security.user.domain.entity.RoleAuthority;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+/**
+ * SecurityContext 에 들어가는 인증된 사용자 (불변)
+ * JPA User 엔티티 대신 사용 - 비밀번호 해시나 Hibernate 컬렉션을 요청 내내 들고 다니지 않음
+ *
+ * @param uid         : 회원 구별 정보 (토큰의 sub)
+ * @param roleMask    : 권한 비트마스크 (RoleAuthority.mask 의 합) - 권한 확인은 비트 연산
+ * @param authorities : RoleAuthority 가 공유하는 불변 권한 목록
+ */
+public record AuthenticatedUser(
+    String uid,
+    long roleMask,
+    List<GrantedAuthority> authorities
+) implements UserDetails {
+
+    public static AuthenticatedUser of(String uid, Collection<String> roles) {
+        return new AuthenticatedUser(uid, RoleAuthority.maskOf(roles), RoleAuthority.authoritiesOf(roles));
+    }
+
+    //DB 에서 조회한 UserDetails(User 엔티티)를 principal 로 변환 - 이미 변환된 객체면 그대로 사용
+    public static AuthenticatedUser from(UserDetails userDetails) {
+        if (userDetails instanceof AuthenticatedUser authenticatedUser) {
+            return authenticatedUser;
+        }
+        List<String> roles = new ArrayList<>();
+        for (GrantedAuthority authority : userDetails.getAuthorities()) {
+            roles.add(authority.getAuthority());
+        }
+        return of(userDetails.getUsername(), roles);
+    }
+
+    //권한 확인 - 할당 없이 비트 연산 (비트가 없는 권한은 이름으로 비교)
+    public boolean hasRole(RoleAuthority role) {
+        if (role.mask() != 0L) {
+            return (roleMask & role.mask()) != 0L;
+        }
+        return authorities.contains(role);
+    }
+
+    //requiredMask 중 하나라도 가지고 있으면 true
+    public boolean hasAnyRole(long requiredMask) {
+        return (roleMask & requiredMask) != 0L;
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return authorities;
+    }
+
+    //토큰 인증이라 비밀번호는 들고 있지 않음
+    @Override
+    public String getPassword() {
+        return null;
+    }
+
+    @Override
+    public String getUsername() {
+        return uid;
+    }
+}
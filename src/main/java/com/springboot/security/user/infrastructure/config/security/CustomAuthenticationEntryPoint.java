@@ -1,6 +1,5 @@
 package com.springboot.security.user.infrastructure.config.security;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.springboot.security.user.presentation.dto.response.EntryPointErrorResponse;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -15,20 +14,19 @@ import org.springframework.security.web.AuthenticationEntryPoint;
 public class CustomAuthenticationEntryPoint implements AuthenticationEntryPoint {
 
     private final Logger LOGGER = LoggerFactory.getLogger(CustomAuthenticationEntryPoint.class);
+    //응답 본문은 항상 같으므로 한 번만 인코딩 (요청마다 ObjectMapper 를 만들지 않음)
+    private static final byte[] UNAUTHORIZED_BODY = new EntryPointErrorResponse("인증이 실패핬습니다.").toJsonBytes();
 
 
     @Override
     public void commence(HttpServletRequest request, HttpServletResponse response,
         AuthenticationException authException) throws IOException {
-            ObjectMapper objectMapper = new ObjectMapper();
             LOGGER.info("[commence] 인증 실패로 response.sendError 발생");
 
-            EntryPointErrorResponse entryPointErrorResponse = new EntryPointErrorResponse();
-            entryPointErrorResponse.setMsg("인증이 실패핬습니다.");
-
             response.setStatus(401);
             response.setContentType("application/json");
             response.setCharacterEncoding("UTF-8");
-            response.getWriter().write(objectMapper.writeValueAsString(entryPointErrorResponse)); //dto의 메시지를 -> json으로 변환
+            response.setContentLength(UNAUTHORIZED_BODY.length);
+            response.getOutputStream().write(UNAUTHORIZED_BODY); //미리 인코딩한 json
     }
 }
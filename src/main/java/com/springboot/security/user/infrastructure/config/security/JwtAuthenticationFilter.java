@@ -22,9 +22,17 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final Logger LOGGER = LoggerFactory.getLogger(JwtAuthenticationFilter.class);
     private final JwtTokenProvider jwtTokenProvider;
+    private final PublicRouteTable publicRouteTable;
 
-    public JwtAuthenticationFilter(JwtTokenProvider jwtTokenProvider) {
+    public JwtAuthenticationFilter(JwtTokenProvider jwtTokenProvider, PublicRouteTable publicRouteTable) {
         this.jwtTokenProvider = jwtTokenProvider;
+        this.publicRouteTable = publicRouteTable;
+    }
+
+    //공개 경로(토큰을 원하는 핸들러 제외)는 토큰 파싱/서명 검증 없이 통과 - 접근 허용 여부는 SecurityFilterChain 이 판단
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return publicRouteTable.skipsAuthentication(request);
     }
 
     //각 필터의 작업을 담당하는 메서드 (JwtAuthenticationFilter의 작업)
@@ -32,17 +40,21 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     protected void doFilterInternal(HttpServletRequest request,
                                     HttpServletResponse response,
                                     FilterChain filterChain) throws ServletException, IOException {
-        //servletRequest에서 토큰 추출
+        //servletRequest에서 토큰 추출 (토큰 원문은 로그에 남기지 않음)
         String token = jwtTokenProvider.resolveToken(request);
-        LOGGER.info("[doFilterInternal] token 값 추출 완료. token : {}", token);
 
-        //토큰 유효성 검사
-        LOGGER.info("[doFilterInternal] token 값 유효성 체크 시작");
-        if(token != null && jwtTokenProvider.validateToken(token)) {
+        //토큰 유효성 검사 - 파싱과 서명 검증은 한 번만 수행하고, 검증된 클레임으로 만료/사용자 정보를 모두 처리
+        VerifiedToken verifiedToken = null;
+        if (token != null) {
+            verifiedToken = jwtTokenProvider.parseToken(token);
+        } else {
+            jwtTokenProvider.recordMissingToken();
+        }
+        if(verifiedToken != null && !verifiedToken.isExpired(System.currentTimeMillis())) {
             //유효한 토큰이면 Authentication 객체를 생성하여 토크에서 추출한 사용자 정보를 담아 SecurityContextHolder에 추가
-            Authentication authentication = jwtTokenProvider.getAuthentication(token);
+            Authentication authentication = jwtTokenProvider.getAuthentication(verifiedToken);
             SecurityContextHolder.getContext().setAuthentication(authentication);
-            LOGGER.info("[doFilterInternal] token 값 유효성 체크 완료");
+            LOGGER.debug("[doFilterInternal] token 값 유효성 체크 완료. sub : {}", verifiedToken.subject());
         }
         //인증 설정이 끝난 뒤 요청을 다음 필터/서블릿으로 전달. 매우 중요(반드시 호출되어야 함).
         filterChain.doFilter(request, response);
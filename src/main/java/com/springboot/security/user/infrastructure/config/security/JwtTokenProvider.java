@@ -1,33 +1,41 @@
 package com.springboot.security.user.infrastructure.config.security;
 
+import com.springboot.security.user.domain.entity.RoleAuthority;
+import com.springboot.security.user.infrastructure.config.security.AuthMetrics.TokenOutcome;
 import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.Jws;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.SignatureAlgorithm;
-import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SignatureException;
 import jakarta.annotation.PostConstruct;
 import jakarta.servlet.http.HttpServletRequest;
-import java.nio.charset.StandardCharsets;
-import java.security.Key;
-import java.util.Base64;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Date;
 import java.util.List;
+import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.http.HttpHeaders;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.stereotype.Component;
 
 /**
- * 1. init : secretKey를 Base64형식으로 인코딩
- * 2. createToken : 토큰 생성 - 헤더+페이로드+서명 만들기
- * 3. getUsername : 토큰 파싱 - 회원 정보(sub) 반환
- * 4. getAuthentication : JWT 토큰 파싱  - JWT 정보로 스프링 시큐리티 인증 객체(Authentication) 생성
- * 5. resolveToken
- * 6. validateToken
+ * 1. init : 파서를 한 번만 생성 (서명 키는 SigningKeyRing 이 kid 별로 관리)
+ * 2. createToken : 토큰 생성 - 헤더(kid 포함)+페이로드+서명 만들기
+ * 3. parseToken : 토큰 파싱 + 서명 검증을 한 번만 수행 - 검증된 클레임(VerifiedToken) 반환 (VerifiedTokenCache 먼저 조회)
+ * 4. getUsername : 토큰 파싱 - 회원 정보(sub) 반환
+ * 5. getAuthentication : JWT 토큰 파싱  - JWT 정보로 스프링 시큐리티 인증 객체(Authentication) 생성
+ *    (claims-trusted 모드에서는 DB 조회 없이 sub/roles 클레임만으로 생성)
+ *    principal 은 항상 불변 AuthenticatedUser - JPA 엔티티/비밀번호 해시를 SecurityContext 에 두지 않음
+ * 6. resolveToken
+ * 7. validateToken
+ * 8. revokeToken : 토큰 jti 를 폐기 목록에 등록 (만료 전 무효화)
  */
 @Component
 @RequiredArgsConstructor
@@ -36,23 +44,34 @@ public class JwtTokenProvider { //UserDetails 정보를 가져와 JWT 토큰 생
 
     private final org.slf4j.Logger LOGGER =  LoggerFactory.getLogger(JwtTokenProvider.class);
     private final UserDetailsService userDetailsService;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final SigningKeyRing signingKeyRing;
+    private final TokenRevocationStore tokenRevocationStore;
+    private final AuthMetrics authMetrics;
 
-    @Value("${spring.jwt.secret}")
-    private String secretKey = "secretKey"; //yml파일에서 secretkey 가져오기
+    private static final String AUTH_TOKEN_HEADER = "X-AUTH-TOKEN";
+    private static final String BEARER_PREFIX = "Bearer ";
 
-    private Key key;
-    private final long tokenValidMillisecond = 1000L * 60 * 60; //토큰 만료 시간 (1시간)
+    //true 이면 서명 검증된 sub/roles 클레임을 그대로 신뢰하고 DB에서 사용자를 조회하지 않음
+    @Value("${spring.jwt.claims-trusted:false}")
+    private boolean claimsTrusted = false;
+
+    //init 이후 변하지 않음 - JwtParser는 thread-safe 하므로 요청마다 새로 만들지 않고 재사용
+    //검증 키는 토큰 헤더의 kid 로 SigningKeyRing 에서 찾음 -> 키가 교체되어도 파서를 다시 만들 필요 없음
+    private JwtParser jwtParser;
+    //access 토큰 만료 시간 (기본 15분) - 짧게 유지하고 만료되면 리프레시 토큰으로 갱신
+    @Value("${spring.jwt.access-token-valid-millis:900000}")
+    private long tokenValidMillisecond = 1000L * 60 * 15;
 
 
     /**
-     *  secretKey를 Base64형식으로 인코딩
+     *  kid 로 검증 키를 찾는 파서 생성
      */
     @PostConstruct //Spring이 Bean을 모두 생성하고 의존성 주입이 끝난 직후에 실행되는 메서드
     protected void init() {
-        LOGGER.info("[init] JwtTokenProvider 내 secretKey 초기화 시작");
-        //키를 아스키코드로 인코딩
-        secretKey = Base64.getEncoder().encodeToString(secretKey.getBytes(StandardCharsets.UTF_8));
-        LOGGER.info("[init] JwtTokenProvider 내 secretKey 초기화 완료");
+        LOGGER.info("[init] JwtTokenProvider 내 JwtParser 초기화 시작");
+        this.jwtParser = Jwts.parserBuilder().setSigningKeyResolver(signingKeyRing).build();
+        LOGGER.info("[init] JwtTokenProvider 내 JwtParser 초기화 완료");
     }
 
     /**
@@ -76,23 +95,20 @@ public class JwtTokenProvider { //UserDetails 정보를 가져와 JWT 토큰 생
          */
 
         Date now = new Date(); //발급 시각과 만료 시각 설정위해 Date 객체 생성
-
-
-        //JJWT 0.11.x 이후 새로운 버전
-        byte[] keyBytes = secretKey.getBytes(StandardCharsets.UTF_8);
-        //HMAC-SHA 비밀키 알고리즘에서 사용할 적정 길이의 key 객체로 변환
-        this.key = Keys.hmacShaKeyFor(keyBytes);
+        SigningKey signingKey = signingKeyRing.active(); //현재 서명에 사용하는 키
 
         String token = Jwts.builder() //위에서 만든 claims와 meta data 담기
             .setClaims(claims)
+            .setId(UUID.randomUUID().toString()) //jti - 토큰 폐기(로그아웃 등)에 사용
             .setIssuedAt(now) //발급 시각
             .setExpiration(new Date(now.getTime() + tokenValidMillisecond)) //만료 시각
+            .setHeaderParam(JwsHeader.KEY_ID, signingKey.kid()) //검증할 때 사용할 키를 찾기 위한 kid
             //.signWith(SignatureAlgorithm.HS256, secretKey) //deprecated
-            .signWith(key, SignatureAlgorithm.HS256) //헤더에 alg추가, signature 추가 - JJWT 0.11.x 이후 방식
+            .signWith(signingKey.signingKey(), signingKey.algorithm()) //헤더에 alg추가, signature 추가 - JJWT 0.11.x 이후 방식
             .compact();
 
             //참고: signWith 호출 시 자동으로 typ: JWT로 들어감
-            // signWith(key, SignatureAlgorithm.HS256) -> Header : { "typ": "JWT", alg: "HS256" } 설정 + 서명
+            // signWith(key, SignatureAlgorithm.HS256) -> Header : { "typ": "JWT", "kid": "default", alg: "HS256" } 설정 + 서명
 
             LOGGER.info("[createToken] 토큰 생성 완료");
         /**
@@ -100,6 +116,7 @@ public class JwtTokenProvider { //UserDetails 정보를 가져와 JWT 토큰 생
          * {
          *   "sub": "user123",
          *   "roles": ["ROLE_USER"],
+         *   "jti": "0b7d2c4e-...",
          *   "iat": 1729892000,
          *   "exp": 1729895600
          * }
@@ -107,61 +124,183 @@ public class JwtTokenProvider { //UserDetails 정보를 가져와 JWT 토큰 생
             return token;
     }
 
+    /**
+     * 토큰 파싱 + 서명 검증을 한 번만 수행하고 검증된 클레임을 반환
+     * 필터는 이 결과 하나로 유효성, 만료, sub, roles 를 모두 처리함
+     * @param token : X-AUTH-TOKEN 값
+     * @return 검증된 클레임, 서명이 잘못되었거나 파싱할 수 없는 토큰이면 null
+     */
+    public VerifiedToken parseToken(String token) {
+        long start = System.nanoTime();
+        if (token == null || token.isBlank()) { //캐시 키(SHA-256) 계산 전에 걸러냄
+            return reject(TokenOutcome.MISSING, start);
+        }
+        //이미 검증한 토큰이면 서명 검증/디코딩 없이 바로 반환 (캐시 항목은 토큰 exp 이전에 만료됨)
+        VerifiedToken cached = verifiedTokenCache.get(token);
+        if (cached != null) {
+            authMetrics.recordTokenVerification(true, start);
+            return accept(cached);
+        }
+        try {
+            //parseClaimsJws(token) : 실제 토큰 파싱 및 서명 검증 (Base64 디코딩과 서명 검증)
+            Claims claims = jwtParser.parseClaimsJws(token).getBody();
+            Date expiration = claims.getExpiration();
+            if (expiration == null) { //만료 시각이 없는 토큰은 유효하지 않음
+                return reject(TokenOutcome.MALFORMED, start);
+            }
+            List<String> roles = extractRoles(claims);
+            VerifiedToken verifiedToken = new VerifiedToken(claims.getId(), claims.getSubject(), roles,
+                RoleAuthority.authoritiesOf(roles), RoleAuthority.maskOf(roles), expiration.getTime());
+            verifiedTokenCache.put(token, verifiedToken);
+            authMetrics.recordTokenVerification(false, start);
+            return accept(verifiedToken);
+        } catch (ExpiredJwtException e) {
+            return reject(TokenOutcome.EXPIRED, start);
+        } catch (SignatureException e) {
+            LOGGER.info("[parseToken] 토큰 서명 검증 실패");
+            return reject(TokenOutcome.BAD_SIGNATURE, start);
+        } catch (JwtException | IllegalArgumentException e) {
+            LOGGER.info("[parseToken] 토큰 파싱 예외 발생");
+            return reject(TokenOutcome.MALFORMED, start);
+        }
+    }
+
+    //토큰이 없는 요청 (필터에서 호출)
+    public void recordMissingToken() {
+        authMetrics.countToken(TokenOutcome.MISSING);
+    }
+
     //JWT 검증 후 JWT를 Spring Security 인증 객체로 바꿔주는 역할
     //Authentication 현재 인증된 사용자 객체 ( -> principal(사용자 식별), credential(비밀번호-토큰 기반인증으로 필요없음), authorities(권한)가 존재)
     /**
      * 최종 반환되는 Authentication 객체
-     * UsernamePasswordAuthenticationToken
-     *  ├─ principal : UserDetails(user123)
+     * TokenAuthentication
+     *  ├─ principal : AuthenticatedUser(user123, roleMask)
      *  ├─ credentials : ""
-     *  └─ authorities : [ROLE_USER, ROLE_ADMIN]
+     *  └─ authorities : [ROLE_USER, ROLE_ADMIN] (RoleAuthority 공유 목록)
      */
     public Authentication getAuthentication(String token) {
+        VerifiedToken verifiedToken = parseToken(token);
+        if (verifiedToken == null) {
+            throw new JwtException("유효하지 않은 토큰입니다.");
+        }
+        return getAuthentication(verifiedToken);
+    }
+
+    //이미 검증된 클레임으로 인증 객체 생성 (토큰을 다시 파싱하지 않음)
+    public Authentication getAuthentication(VerifiedToken verifiedToken) {
         LOGGER.info("[getAuthentication] 토큰 인증 정보 조회 시작");
-        //"token"에서 username을 추출해 DB에서 사용자정보 조회하여 userDetails에 담음
+        if (claimsTrusted) {
+            //서명 검증된 클레임만으로 가벼운 principal 생성 - DB 조회 없음, 권한 목록/마스크는 파싱할 때 만든 것 재사용
+            return new TokenAuthentication(new AuthenticatedUser(verifiedToken.subject(),
+                verifiedToken.roleMask(), verifiedToken.authorities()));
+        }
+        //검증된 클레임의 username(sub)으로 DB에서 사용자정보 조회하여 userDetails에 담음
         //UserDetails: 한 명의 사용자 정보를 제공하는 인터페이스
-        UserDetails userDetails = userDetailsService.loadUserByUsername(this.getUsername(token));
+        UserDetails userDetails = userDetailsService.loadUserByUsername(verifiedToken.subject());
         LOGGER.info("[getAuthentication] 토큰 인증 정보 조회 완료, UserDetails Username : {}", userDetails.getUsername());
-        //UsernamePasswordAuthenticationToken : Authentication 인터페이스를 구현한 AbstractAuthenticationToken의 하위 객체, 인증객체를 만드는데 사용
-        return new UsernamePasswordAuthenticationToken(userDetails, "", userDetails.getAuthorities());
-
+        //조회한 엔티티는 그대로 두지 않고 uid/권한만 담은 불변 principal 로 변환 (비밀번호 해시는 SecurityContext 에 남기지 않음)
+        return new TokenAuthentication(AuthenticatedUser.from(userDetails));
     }
 
     //유저 id 파싱
     public String getUsername(String token) {
         LOGGER.info("[getUsername] 토큰 기반 회원 구별 정보 추출");
 
-        byte[] ketBytes = secretKey.getBytes(StandardCharsets.UTF_8);
-        this.key = Keys.hmacShaKeyFor(ketBytes);  //문자열 비밀키를 key 객체로 반환
-        //토큰 파싱 -> sub 추출
-        //setSigningKey :  토큰을 검증할 때 사용할 비밀키를 설정
-        //parseClaimsJws(token) :  토큰을 파싱 (Base64 디코딩과 서명 검증) -> 검증 성공시 Jws<Claims> 객체 반환
-        //Jws : 서명된 JWT
-        String info = Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token).getBody().getSubject();
+        //토큰 파싱 -> sub 추출 (검증된 토큰 캐시를 먼저 조회)
+        VerifiedToken verifiedToken = parseToken(token);
+        if (verifiedToken == null) {
+            throw new JwtException("유효하지 않은 토큰입니다.");
+        }
+        String info = verifiedToken.subject();
 
         LOGGER.info("[getUsername] 토큰 기반 회원 구별 정보 추출 완료, info : {}", info);
         return info;
     }
 
     //클라이언트가 보낸 HTTP 요청 헤더에서 JWT 토큰 꺼내오는 역할
+    //X-AUTH-TOKEN 우선, 없으면 Authorization: Bearer <token> (헤더 값에서 토큰 부분만 한 번 잘라냄)
     public String resolveToken(HttpServletRequest request) {
-        LOGGER.info("[resolveToken] HTTP 헤더에서 Token 값 추출");
-        return request.getHeader("X-AUTH-TOKEN");
+        String token = request.getHeader(AUTH_TOKEN_HEADER);
+        if (token != null && !token.isEmpty()) {
+            return token;
+        }
+        return resolveBearerToken(request.getHeader(HttpHeaders.AUTHORIZATION));
+    }
+
+    //"Bearer" 는 대소문자 구분 없음 (RFC 6750), 토큰 앞뒤 공백은 제외
+    static String resolveBearerToken(String authorization) {
+        if (authorization == null
+            || !authorization.regionMatches(true, 0, BEARER_PREFIX, 0, BEARER_PREFIX.length())) {
+            return null;
+        }
+        int start = BEARER_PREFIX.length();
+        int end = authorization.length();
+        while (start < end && authorization.charAt(start) == ' ') {
+            start++;
+        }
+        while (end > start && authorization.charAt(end - 1) == ' ') {
+            end--;
+        }
+        return start == end ? null : authorization.substring(start, end);
     }
 
     public boolean validateToken(String token) {
         LOGGER.info("[validationToken] 토큰 유효 체크 시작");
 
-        try{
-            byte[] ketBytes = secretKey.getBytes(StandardCharsets.UTF_8);
-            this.key = Keys.hmacShaKeyFor(ketBytes);
-            //parseClaimsJws(token) : 실제 토큰 파싱 및 서명 검증
-            Jws<Claims> claims = Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token); //토큰 파싱
-            //토큰의 만료기간 확인
-            return !claims.getBody().getExpiration().before(new Date());
-        } catch (Exception e){
-            LOGGER.info("[validateToken] 토큰 유효 체크 예외 발생");
+        VerifiedToken verifiedToken = parseToken(token);
+        //토큰의 만료기간 확인
+        return verifiedToken != null && !verifiedToken.isExpired(System.currentTimeMillis());
+    }
+
+    /**
+     * 토큰을 만료 전에 무효화 (로그아웃, 관리자 폐기)
+     * @return 폐기 등록했으면 true, 이미 유효하지 않은 토큰이면 false
+     */
+    public boolean revokeToken(String token) {
+        VerifiedToken verifiedToken = parseToken(token);
+        if (verifiedToken == null || verifiedToken.jti() == null) {
             return false;
         }
+        tokenRevocationStore.revoke(verifiedToken.jti(), verifiedToken.expiresAtMillis());
+        return true;
+    }
+
+    //폐기 여부 확인 - 대부분의 토큰은 Bloom filter 에서 바로 통과
+    private boolean isRevoked(VerifiedToken verifiedToken) {
+        return tokenRevocationStore.isRevoked(verifiedToken.jti());
+    }
+
+    //서명 검증된 토큰의 만료/폐기 확인 후 결과 집계
+    private VerifiedToken accept(VerifiedToken verifiedToken) {
+        if (verifiedToken.isExpired(System.currentTimeMillis())) {
+            authMetrics.countToken(TokenOutcome.EXPIRED);
+            return null;
+        }
+        if (isRevoked(verifiedToken)) {
+            authMetrics.countToken(TokenOutcome.REVOKED);
+            return null;
+        }
+        authMetrics.countToken(TokenOutcome.VALID);
+        return verifiedToken;
+    }
+
+    private VerifiedToken reject(TokenOutcome outcome, long startNanos) {
+        authMetrics.recordTokenVerification(false, startNanos);
+        authMetrics.countToken(outcome);
+        return null;
+    }
+
+    //roles 클레임은 JSON 배열이므로 문자열 리스트로 변환
+    private List<String> extractRoles(Claims claims) {
+        Object roles = claims.get("roles");
+        if (!(roles instanceof List<?> roleList)) {
+            return Collections.emptyList();
+        }
+        List<String> result = new ArrayList<>(roleList.size());
+        for (Object role : roleList) {
+            result.add(String.valueOf(role));
+        }
+        return Collections.unmodifiableList(result);
     }
 }
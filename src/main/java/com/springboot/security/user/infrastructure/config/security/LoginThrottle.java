@@ -0,0 +1,189 @@
+package com.springboot.security.user.infrastructure.config.security;
+
+import com.springboot.security.user.application.exception.LoginThrottledException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 로그인 시도 제한 (DB 조회, BCrypt 비교 전에 수행)
+ *
+ * 1. uid 별, 클라이언트 주소 별 토큰 버킷 - 둘 다 통과해야 로그인 시도 가능
+ *    - 버킷은 GCRA(이론적 도착 시각 하나를 CAS 로 갱신) 방식이라 락이 없음
+ *    - ConcurrentHashMap 이 키 별로 나누어 관리하므로 서로 다른 uid/주소끼리는 경합하지 않음
+ * 2. 연속 실패가 failure-threshold 에 도달하면(이상) 지수적으로 늘어나는 시간 동안 차단
+ *    - uid 실패 횟수는 그 uid 로 로그인에 성공하면 초기화
+ *    - 주소 실패 횟수는 성공해도 유지 (한 주소에서 자기 계정으로 로그인하면서 다른 uid 를 계속 대입하는 경우를 막기 위해)
+ *    - 둘 다 마지막 실패 후 failure-decay 동안 실패가 없으면 다시 0부터 셈
+ * 3. 일정 시간 사용되지 않은 버킷은 주기적으로 제거
+ */
+@Component
+public class LoginThrottle {
+
+    private final Logger LOGGER = LoggerFactory.getLogger(LoginThrottle.class);
+
+    private final ConcurrentHashMap<String, Bucket> uidBuckets = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Bucket> clientBuckets = new ConcurrentHashMap<>();
+
+    private final Limit uidLimit;
+    private final Limit clientLimit;
+    private final int failureThreshold;
+    private final long backoffBaseNanos;
+    private final long backoffMaxNanos;
+    private final long failureDecayNanos;
+    private final long idleNanos;
+
+    public LoginThrottle(@Value("${spring.login-throttle.uid.capacity:10}") int uidCapacity,
+                         @Value("${spring.login-throttle.uid.per-minute:10}") int uidPerMinute,
+                         @Value("${spring.login-throttle.client.capacity:30}") int clientCapacity,
+                         @Value("${spring.login-throttle.client.per-minute:60}") int clientPerMinute,
+                         @Value("${spring.login-throttle.failure-threshold:5}") int failureThreshold,
+                         @Value("${spring.login-throttle.backoff-base-millis:1000}") long backoffBaseMillis,
+                         @Value("${spring.login-throttle.backoff-max-millis:900000}") long backoffMaxMillis,
+                         @Value("${spring.login-throttle.failure-decay-millis:900000}") long failureDecayMillis,
+                         @Value("${spring.login-throttle.idle-millis:600000}") long idleMillis) {
+        this.uidLimit = new Limit(uidCapacity, uidPerMinute);
+        this.clientLimit = new Limit(clientCapacity, clientPerMinute);
+        this.failureThreshold = failureThreshold;
+        this.backoffBaseNanos = TimeUnit.MILLISECONDS.toNanos(backoffBaseMillis);
+        this.backoffMaxNanos = TimeUnit.MILLISECONDS.toNanos(backoffMaxMillis);
+        this.failureDecayNanos = TimeUnit.MILLISECONDS.toNanos(failureDecayMillis);
+        this.idleNanos = TimeUnit.MILLISECONDS.toNanos(idleMillis);
+    }
+
+    /**
+     * 로그인 시도 가능 여부 확인, 불가능하면 LoginThrottledException
+     * 주소 기준을 먼저 확인 (한 곳에서 여러 uid 로 시도하는 공격을 먼저 거름)
+     */
+    public void acquire(String uid, String clientAddress) {
+        long now = System.nanoTime();
+        long waitNanos = tryAcquire(clientBuckets, clientAddress, clientLimit, now);
+        if (waitNanos == 0) {
+            waitNanos = tryAcquire(uidBuckets, uid, uidLimit, now);
+        }
+        if (waitNanos > 0) {
+            throw new LoginThrottledException(Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999L)));
+        }
+    }
+
+    public void onFailure(String uid, String clientAddress) {
+        long now = System.nanoTime();
+        recordFailure(uidBuckets.get(key(uid)), now);
+        recordFailure(clientBuckets.get(key(clientAddress)), now);
+    }
+
+    //성공한 uid 의 실패만 초기화, 주소의 실패는 failure-decay 로만 줄어듦
+    public void onSuccess(String uid, String clientAddress) {
+        Bucket uidBucket = uidBuckets.get(key(uid));
+        if (uidBucket != null) {
+            uidBucket.resetFailures();
+        }
+    }
+
+    //사용되지 않고 차단도 끝난 버킷 제거
+    @Scheduled(fixedDelayString = "${spring.login-throttle.evict-interval-millis:60000}")
+    public void evictIdle() {
+        long now = System.nanoTime();
+        int before = uidBuckets.size() + clientBuckets.size();
+        uidBuckets.values().removeIf(bucket -> bucket.isIdle(now, idleNanos));
+        clientBuckets.values().removeIf(bucket -> bucket.isIdle(now, idleNanos));
+        int evicted = before - uidBuckets.size() - clientBuckets.size();
+        if (evicted > 0) {
+            LOGGER.info("[evictIdle] 사용되지 않는 로그인 제한 버킷 제거 : {}", evicted);
+        }
+    }
+
+    private long tryAcquire(ConcurrentHashMap<String, Bucket> buckets, String key, Limit limit, long now) {
+        Bucket bucket = buckets.computeIfAbsent(key(key), k -> new Bucket(now));
+        long blockedFor = bucket.blockedUntilNanos - now;
+        if (blockedFor > 0) {
+            return blockedFor;
+        }
+        return bucket.tryAcquire(now, limit);
+    }
+
+    private void recordFailure(Bucket bucket, long now) {
+        if (bucket == null) {
+            return;
+        }
+        int failures = bucket.addFailure(now, failureDecayNanos);
+        if (failures >= failureThreshold) {
+            //threshold 부터 1, 2, 4, 8 ... 배씩 차단 시간 증가 (최대 backoffMax)
+            int exponent = Math.min(30, failures - failureThreshold);
+            long backoff = Math.min(backoffMaxNanos, backoffBaseNanos << exponent);
+            if (backoff < 0) {
+                backoff = backoffMaxNanos;
+            }
+            bucket.blockedUntilNanos = now + backoff;
+        }
+    }
+
+    private static String key(String value) {
+        return value == null ? "" : value;
+    }
+
+    /**
+     * @param intervalNanos : 토큰 하나가 다시 채워지는 시간
+     * @param burstNanos    : 한 번에 사용할 수 있는 토큰(capacity)만큼의 시간
+     */
+    private record Limit(long intervalNanos, long burstNanos) {
+
+        Limit(int capacity, int perMinute) {
+            this(TimeUnit.MINUTES.toNanos(1) / Math.max(1, perMinute),
+                TimeUnit.MINUTES.toNanos(1) / Math.max(1, perMinute) * Math.max(1, capacity));
+        }
+    }
+
+    private static final class Bucket {
+
+        //이론적 도착 시각(TAT) - 이 값이 now + burst 를 넘으면 토큰이 없는 상태
+        private final AtomicLong theoreticalArrival;
+        private volatile long blockedUntilNanos;
+        //실패 기록은 드문 경로라 버킷 단위 synchronized 로 보호
+        private int failures;
+        private long lastFailureNanos;
+
+        private Bucket(long now) {
+            this.theoreticalArrival = new AtomicLong(now);
+            this.blockedUntilNanos = now;
+        }
+
+        //토큰 하나 사용, 성공하면 0, 실패하면 다음 토큰까지 기다려야 하는 시간
+        private long tryAcquire(long now, Limit limit) {
+            while (true) {
+                long tat = theoreticalArrival.get();
+                long next = Math.max(tat, now) + limit.intervalNanos();
+                long overflow = next - now - limit.burstNanos();
+                if (overflow > 0) {
+                    return overflow;
+                }
+                if (theoreticalArrival.compareAndSet(tat, next)) {
+                    return 0;
+                }
+            }
+        }
+
+        //마지막 실패 후 decayNanos 가 지났으면 이전 실패는 잊고 새로 셈, 누적 실패 횟수 반환
+        private synchronized int addFailure(long now, long decayNanos) {
+            if (failures > 0 && now - lastFailureNanos > decayNanos) {
+                failures = 0;
+            }
+            lastFailureNanos = now;
+            return ++failures;
+        }
+
+        private synchronized void resetFailures() {
+            failures = 0;
+        }
+
+        //토큰이 모두 채워졌고 차단도 끝났으면 idle
+        private boolean isIdle(long now, long idleNanos) {
+            return theoreticalArrival.get() + idleNanos < now && blockedUntilNanos < now;
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package com.springboot.security.user.infrastructure.config.security;
+
+import com.springboot.security.user.application.exception.PasswordHashingBusyException;
+import com.springboot.security.user.infrastructure.config.security.AuthMetrics.PasswordOperation;
+import jakarta.annotation.PreDestroy;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+/**
+ * 비밀번호 해시(BCrypt) 전용 실행기
+ *
+ * - BCrypt 는 CPU 만 쓰므로 코어 수만큼의 스레드에서만 실행 (Tomcat 요청 스레드가 모두 해시에 묶이지 않도록)
+ * - 대기열(queue-capacity)이 가득 차면 기다리지 않고 바로 PasswordHashingBusyException -> 503 + Retry-After
+ * - 대기열 길이, 해시 시간 통계 제공 (해시 시간 분포는 auth.password.hashing 타이머)
+ * - 없는 사용자 로그인도 더미 해시와 비교 (matchesDummy) -> 응답 시간으로 아이디 존재 여부를 알 수 없도록
+ */
+@Component
+public class PasswordHashingExecutor {
+
+    private final Logger LOGGER = LoggerFactory.getLogger(PasswordHashingExecutor.class);
+
+    private final PasswordEncoder passwordEncoder;
+    private final AuthMetrics authMetrics;
+    private final ThreadPoolExecutor executor;
+    private final long timeoutMillis;
+    private final long retryAfterSeconds;
+    //어떤 비밀번호와도 일치하지 않는 해시 - 실제 사용자 해시와 같은 인코더(같은 비용)로 시작 시 한 번 생성
+    private final String dummyHash;
+
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder hashNanos = new LongAdder();
+    private final AtomicLong maxHashNanos = new AtomicLong();
+
+    public PasswordHashingExecutor(PasswordEncoder passwordEncoder, AuthMetrics authMetrics,
+        @Value("${spring.password-hashing.threads:0}") int threads,
+        @Value("${spring.password-hashing.queue-capacity:64}") int queueCapacity,
+        @Value("${spring.password-hashing.timeout-millis:5000}") long timeoutMillis,
+        @Value("${spring.password-hashing.retry-after-seconds:1}") long retryAfterSeconds) {
+        this.passwordEncoder = passwordEncoder;
+        this.authMetrics = authMetrics;
+        this.timeoutMillis = timeoutMillis;
+        this.retryAfterSeconds = retryAfterSeconds;
+        this.dummyHash = passwordEncoder.encode(UUID.randomUUID().toString());
+
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity),
+            runnable -> {
+                Thread thread = new Thread(runnable, "password-hashing-" + threadNumber.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            },
+            new ThreadPoolExecutor.AbortPolicy());
+        LOGGER.info("[PasswordHashingExecutor] 스레드 : {}, 대기열 : {}", poolSize, queueCapacity);
+    }
+
+    public String encode(CharSequence rawPassword) {
+        return execute(PasswordOperation.ENCODE, () -> passwordEncoder.encode(rawPassword));
+    }
+
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return execute(PasswordOperation.MATCHES, () -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    //없는 사용자 - 결과는 항상 불일치지만 실제 비교와 같은 시간이 걸리도록 더미 해시와 비교
+    public void matchesDummy(CharSequence rawPassword) {
+        execute(PasswordOperation.MATCHES, () -> passwordEncoder.matches(rawPassword, dummyHash));
+    }
+
+    public PasswordHashingStats stats() {
+        return new PasswordHashingStats(
+            executor.getQueue().size(),
+            executor.getActiveCount(),
+            executor.getCompletedTaskCount(),
+            rejected.sum(),
+            hashNanos.sum(),
+            maxHashNanos.get()
+        );
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private <T> T execute(PasswordOperation operation, Callable<T> hashing) {
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                long start = System.nanoTime();
+                try {
+                    return hashing.call();
+                } finally {
+                    long elapsed = System.nanoTime() - start;
+                    hashNanos.add(elapsed);
+                    maxHashNanos.accumulateAndGet(elapsed, Math::max);
+                    authMetrics.recordPasswordHashing(operation, elapsed);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            throw new PasswordHashingBusyException(retryAfterSeconds);
+        }
+        try {
+            return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            rejected.increment();
+            throw new PasswordHashingBusyException(retryAfterSeconds);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            throw new IllegalStateException("비밀번호 처리 중 인터럽트가 발생했습니다.", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.springboot.security.user.infrastructure.config.security;
+
+/**
+ * 비밀번호 해시 실행기 상태
+ *
+ * @param queueDepth : 대기 중인 해시 작업 수
+ * @param active     : 실행 중인 해시 작업 수
+ * @param completed  : 완료된 해시 작업 수
+ * @param rejected   : 대기열이 가득 차서 거절된 요청 수
+ * @param hashNanos  : 해시 작업 시간 합계
+ * @param maxHashNanos : 가장 오래 걸린 해시 작업 시간
+ */
+public record PasswordHashingStats(
+    int queueDepth,
+    int active,
+    long completed,
+    long rejected,
+    long hashNanos,
+    long maxHashNanos
+) {
+
+    public double averageHashMillis() {
+        return completed == 0 ? 0.0 : hashNanos / 1_000_000.0 / completed;
+    }
+}
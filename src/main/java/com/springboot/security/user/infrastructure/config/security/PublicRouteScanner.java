@@ -0,0 +1,106 @@
+package com.springboot.security.user.infrastructure.config.security;
+
+import com.springboot.security.common.security.OptionalAuthentication;
+import com.springboot.security.common.security.RequireRole;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.AnnotatedElement;
+import java.security.Principal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.annotation.MergedAnnotation;
+import org.springframework.core.annotation.MergedAnnotations;
+import org.springframework.core.annotation.MergedAnnotations.SearchStrategy;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.mvc.method.RequestMappingInfo;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+/**
+ * 컨텍스트가 준비되면 핸들러 매핑을 한 번 스캔해서 핸들러 경로를 PublicRouteTable 에 등록
+ * - 토큰을 원하는 핸들러 : @RequireRole / @OptionalAuthentication, 스프링 시큐리티/jakarta 보안 애노테이션
+ *   (@PreAuthorize, @Secured, @RolesAllowed 등 - 메타 애노테이션 포함), Principal/Authentication 파라미터
+ *   (예: GET /product/export 는 공개 경로(GET /product/**) 아래에 있지만 관리자 토큰이 필요)
+ * - 그 외 핸들러 : 토큰이 필요 없는 경로로 등록
+ * 어느 쪽에도 없는 경로는 PublicRouteTable 이 토큰을 파싱하도록 처리 (모르는 핸들러는 fail closed)
+ */
+@Component
+public class PublicRouteScanner implements ApplicationListener<ContextRefreshedEvent> {
+
+    private final Logger LOGGER = LoggerFactory.getLogger(PublicRouteScanner.class);
+    private final RequestMappingHandlerMapping requestMappingHandlerMapping;
+    private final PublicRouteTable publicRouteTable;
+
+    public PublicRouteScanner(
+        @Qualifier("requestMappingHandlerMapping") RequestMappingHandlerMapping requestMappingHandlerMapping,
+        PublicRouteTable publicRouteTable) {
+        this.requestMappingHandlerMapping = requestMappingHandlerMapping;
+        this.publicRouteTable = publicRouteTable;
+    }
+
+    @Override
+    public void onApplicationEvent(ContextRefreshedEvent event) {
+        List<PublicRouteTable.Route> anonymousRoutes = new ArrayList<>();
+        List<PublicRouteTable.Route> authenticationRoutes = new ArrayList<>();
+        requestMappingHandlerMapping.getHandlerMethods().forEach((info, handlerMethod) ->
+            addRoutes(info, wantsAuthentication(handlerMethod) ? authenticationRoutes : anonymousRoutes));
+        publicRouteTable.setHandlerRoutes(anonymousRoutes, authenticationRoutes);
+        LOGGER.info("[onApplicationEvent] 핸들러 경로 등록 완료. 토큰 불필요 : {}, 토큰 필요 : {}",
+            anonymousRoutes.size(), authenticationRoutes.size());
+    }
+
+    static boolean wantsAuthentication(HandlerMethod handlerMethod) {
+        if (hasSecurityAnnotation(handlerMethod.getMethod()) || hasSecurityAnnotation(handlerMethod.getBeanType())) {
+            return true;
+        }
+        for (MethodParameter parameter : handlerMethod.getMethodParameters()) {
+            Class<?> type = parameter.getParameterType();
+            if (Principal.class.isAssignableFrom(type) || Authentication.class.isAssignableFrom(type)) {
+                return true;
+            }
+            for (Annotation annotation : parameter.getParameterAnnotations()) {
+                if (isSecurityAnnotation(annotation.annotationType())) { //@AuthenticationPrincipal 등
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    //메서드/클래스(상위 타입 포함)의 애노테이션과 그 메타 애노테이션 중 보안 관련이 하나라도 있는지
+    private static boolean hasSecurityAnnotation(AnnotatedElement element) {
+        return MergedAnnotations.from(element, SearchStrategy.TYPE_HIERARCHY).stream()
+            .map(MergedAnnotation::getType)
+            .anyMatch(PublicRouteScanner::isSecurityAnnotation);
+    }
+
+    private static boolean isSecurityAnnotation(Class<?> type) {
+        String name = type.getName();
+        return type == RequireRole.class
+            || type == OptionalAuthentication.class
+            || name.startsWith("org.springframework.security.")
+            || name.startsWith("jakarta.annotation.security.")
+            || name.startsWith("javax.annotation.security.");
+    }
+
+    private static void addRoutes(RequestMappingInfo info, List<PublicRouteTable.Route> routes) {
+        Set<RequestMethod> methods = info.getMethodsCondition().getMethods();
+        for (String pattern : info.getPatternValues()) {
+            if (methods.isEmpty()) {
+                routes.add(new PublicRouteTable.Route(null, pattern));
+                continue;
+            }
+            for (RequestMethod method : methods) {
+                routes.add(new PublicRouteTable.Route(method.name(), pattern));
+            }
+        }
+    }
+}
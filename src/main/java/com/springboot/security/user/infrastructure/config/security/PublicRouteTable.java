@@ -0,0 +1,179 @@
+package com.springboot.security.user.infrastructure.config.security;
+
+import jakarta.servlet.http.HttpServletRequest;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.springframework.http.server.PathContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+/**
+ * 인증 없이 접근 가능한(permitAll) 경로 목록 - SecurityConfiguration 과 JwtAuthenticationFilter 가 같이 사용
+ * 1. PUBLIC_PATHS / PUBLIC_GET_PATHS : SecurityConfiguration 의 permitAll 규칙
+ * 2. skipsAuthentication : 공개 경로이면서, 토큰이 필요 없다고 확인된 핸들러 경로이고,
+ *    토큰을 원하는 핸들러(@RequireRole, @OptionalAuthentication, @PreAuthorize 등) 경로가 아니면 true
+ *    -> 필터가 토큰 파싱/서명 검증을 하지 않음 (익명 카탈로그 조회에 암호 연산 비용 없음)
+ *    스캔하지 못한 핸들러(다른 HandlerMapping, 정적 리소스 등)는 평소처럼 토큰을 파싱 (fail closed)
+ *
+ * 이 표는 "토큰을 파싱할지" 만 결정하고 접근 허용 여부는 SecurityFilterChain 이 그대로 판단함
+ * 그래서 애매한 요청(인코딩된 경로 등)은 공개 경로가 아닌 것으로 보고 평소처럼 토큰을 처리
+ */
+@Component
+public class PublicRouteTable {
+
+    //모든 메서드 허용
+    public static final String[] PUBLIC_PATHS = {
+        "/swagger", "/swagger-ui.html", "/swagger-ui/**", "/api-docs", "/api-docs/**", "/v3/api-docs/**",
+        "/sign-api/sign-in", "/sign-api/sign-up", "/sign-api/refresh", "/sign-api/exception"
+    };
+    //GET 만 허용
+    public static final String[] PUBLIC_GET_PATHS = {
+        "/product/**",
+        "/sign-api/keys" //토큰 검증용 공개키
+    };
+    //actuator 는 여기에 두지 않음 - management 포트 요청만 SecurityConfiguration.managementFilterChain 이 허용
+
+    private static final String ANY_METHOD = "*";
+
+    private final RouteMatcher publicRoutes;
+    //PublicRouteScanner 가 핸들러를 스캔하기 전(null)에는 빠른 경로를 쓰지 않음
+    private volatile HandlerRoutes handlerRoutes;
+
+    public PublicRouteTable() {
+        List<Route> routes = new ArrayList<>();
+        for (String path : PUBLIC_PATHS) {
+            routes.add(new Route(null, path));
+        }
+        for (String path : PUBLIC_GET_PATHS) {
+            routes.add(new Route("GET", path));
+        }
+        this.publicRoutes = new RouteMatcher(routes);
+    }
+
+    /**
+     * 스캔한 핸들러 경로 등록 (애플리케이션 시작 시 한 번)
+     *
+     * @param anonymousRoutes      : 토큰이 필요 없는 핸들러 경로
+     * @param authenticationRoutes : 토큰을 원하는 핸들러 경로 (anonymousRoutes 와 겹치면 이쪽이 우선)
+     */
+    public void setHandlerRoutes(Collection<Route> anonymousRoutes, Collection<Route> authenticationRoutes) {
+        this.handlerRoutes = new HandlerRoutes(new RouteMatcher(anonymousRoutes), new RouteMatcher(authenticationRoutes));
+    }
+
+    //true 이면 토큰 파싱 생략
+    public boolean skipsAuthentication(HttpServletRequest request) {
+        HandlerRoutes routes = handlerRoutes;
+        if (routes == null) {
+            return false;
+        }
+        String path = pathWithinApplication(request);
+        if (path == null) {
+            return false;
+        }
+        String method = request.getMethod();
+        return publicRoutes.matches(method, path)
+            && routes.anonymous().matches(method, path)
+            && !routes.authentication().matches(method, path);
+    }
+
+    //context path 를 뺀 요청 경로, 인코딩/경로 파라미터가 있으면 null (정규화는 SecurityFilterChain 에 맡김)
+    private static String pathWithinApplication(HttpServletRequest request) {
+        String uri = request.getRequestURI();
+        if (uri == null || uri.indexOf('%') >= 0 || uri.indexOf(';') >= 0) {
+            return null;
+        }
+        String contextPath = request.getContextPath();
+        if (contextPath == null || contextPath.isEmpty()) {
+            return uri;
+        }
+        return uri.startsWith(contextPath) ? uri.substring(contextPath.length()) : null;
+    }
+
+    /**
+     * @param method  : HTTP 메서드, null 이면 모든 메서드
+     * @param pattern : 경로 패턴 (PathPattern 문법)
+     */
+    public record Route(String method, String pattern) {
+    }
+
+    //두 목록을 한 번에 바꾸도록 묶어서 보관
+    private record HandlerRoutes(RouteMatcher anonymous, RouteMatcher authentication) {
+    }
+
+    /**
+     * 경로 패턴을 종류별로 미리 나눠 둠
+     * - 와일드카드 없는 경로 : HashMap 조회
+     * - "/xxx/**" : 접두사 비교
+     * - 그 외 : PathPattern (이때만 경로 파싱)
+     */
+    private static final class RouteMatcher {
+
+        private final Map<String, Set<String>> exact = new HashMap<>();
+        private final List<PrefixRoute> prefixes = new ArrayList<>();
+        private final List<PatternRoute> patterns = new ArrayList<>();
+
+        RouteMatcher(Collection<Route> routes) {
+            for (Route route : routes) {
+                String method = route.method() == null ? ANY_METHOD : route.method();
+                String pattern = route.pattern();
+                if (isLiteral(pattern)) {
+                    exact.computeIfAbsent(pattern, key -> new HashSet<>()).add(method);
+                } else if (pattern.endsWith("/**") && isLiteral(pattern.substring(0, pattern.length() - 3))) {
+                    prefixes.add(new PrefixRoute(method, pattern.substring(0, pattern.length() - 3)));
+                } else {
+                    patterns.add(new PatternRoute(method, PathPatternParser.defaultInstance.parse(pattern)));
+                }
+            }
+        }
+
+        boolean matches(String method, String path) {
+            Set<String> methods = exact.get(path);
+            if (methods != null && (methods.contains(ANY_METHOD) || methods.contains(method))) {
+                return true;
+            }
+            for (PrefixRoute route : prefixes) {
+                if (route.matches(method, path)) {
+                    return true;
+                }
+            }
+            if (patterns.isEmpty()) {
+                return false;
+            }
+            PathContainer pathContainer = PathContainer.parsePath(path);
+            for (PatternRoute route : patterns) {
+                if (methodMatches(route.method(), method) && route.pattern().matches(pathContainer)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private static boolean isLiteral(String pattern) {
+            return pattern.indexOf('*') < 0 && pattern.indexOf('{') < 0 && pattern.indexOf('?') < 0;
+        }
+
+        private static boolean methodMatches(String routeMethod, String method) {
+            return ANY_METHOD.equals(routeMethod) || routeMethod.equals(method);
+        }
+
+        //"/product/**" 는 "/product" 와 "/product/..." 모두 일치
+        private record PrefixRoute(String method, String prefix) {
+
+            boolean matches(String requestMethod, String path) {
+                if (!methodMatches(method, requestMethod) || !path.startsWith(prefix)) {
+                    return false;
+                }
+                return path.length() == prefix.length() || path.charAt(prefix.length()) == '/';
+            }
+        }
+
+        private record PatternRoute(String method, PathPattern pattern) {
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.springboot.security.user.infrastructure.config.security;
+
+import com.springboot.security.common.security.RequireRole;
+import com.springboot.security.user.domain.entity.RoleAuthority;
+import java.lang.reflect.Method;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationManager;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+
+/**
+ * @RequireRole 검사
+ * 1. resolve : 메서드/클래스의 @RequireRole 을 권한 비트마스크로 변환해 보관 (프록시 생성 시점 = 애플리케이션 시작 시 수행)
+ * 2. check   : principal 이 AuthenticatedUser 면 비트 연산 한 번, 그 외 Authentication 은 권한 이름 비교
+ *    (요청 처리 중에는 SpEL 파싱/평가, 객체 생성 없음)
+ */
+public class RequireRoleAuthorizationManager implements AuthorizationManager<MethodInvocation> {
+
+    private static final String ROLE_PREFIX = "ROLE_";
+    //AuthorizationDecision 은 불변 - 매번 만들지 않고 공유
+    private static final AuthorizationDecision GRANTED = new AuthorizationDecision(true);
+    private static final AuthorizationDecision DENIED = new AuthorizationDecision(false);
+
+    //@RequireRole 이 붙은 메서드만 보관 (프록시 대상이 아닌 메서드까지 쌓이지 않도록)
+    private final ConcurrentHashMap<Method, RoleRequirement> requirements = new ConcurrentHashMap<>();
+
+    /**
+     * 메서드의 권한 요구사항을 계산해 보관 (메서드 애노테이션 우선, 없으면 클래스 애노테이션)
+     * 포인트컷이 프록시를 만들 때 호출하므로 애플리케이션 시작 시 한 번 계산됨
+     * @return @RequireRole 이 없으면 null
+     */
+    public RoleRequirement resolve(Method method, Class<?> targetClass) {
+        RoleRequirement requirement = requirements.get(method);
+        if (requirement != null) {
+            return requirement;
+        }
+        requirement = compute(method, targetClass);
+        if (requirement != null) {
+            requirements.putIfAbsent(method, requirement);
+        }
+        return requirement;
+    }
+
+    @Override
+    public AuthorizationDecision check(Supplier<Authentication> authentication, MethodInvocation invocation) {
+        Method method = invocation.getMethod();
+        RoleRequirement requirement = requirements.get(method);
+        if (requirement == null) { //프록시 생성 시 보지 못한 메서드(인터페이스 메서드 등)는 첫 호출에 한 번 계산
+            Object target = invocation.getThis();
+            requirement = resolve(method, target != null ? AopUtils.getTargetClass(target) : method.getDeclaringClass());
+            if (requirement == null) {
+                return null; //판단하지 않음 (다른 인가 규칙에 맡김)
+            }
+        }
+        return requirement.isGranted(authentication.get()) ? GRANTED : DENIED;
+    }
+
+    private static RoleRequirement compute(Method method, Class<?> targetClass) {
+        Method specificMethod = AopUtils.getMostSpecificMethod(method, targetClass);
+        RequireRole requireRole = AnnotatedElementUtils.findMergedAnnotation(specificMethod, RequireRole.class);
+        if (requireRole == null) {
+            requireRole = AnnotatedElementUtils.findMergedAnnotation(targetClass, RequireRole.class);
+        }
+        if (requireRole == null) {
+            return null;
+        }
+        String[] authorities = new String[requireRole.value().length];
+        long mask = 0L;
+        boolean allMasked = true;
+        for (int i = 0; i < authorities.length; i++) {
+            String role = requireRole.value()[i];
+            if (role == null || role.isBlank()) {
+                throw new IllegalStateException("@RequireRole 에 빈 역할이 있습니다 : " + specificMethod);
+            }
+            authorities[i] = role.startsWith(ROLE_PREFIX) ? role : ROLE_PREFIX + role;
+            long roleMask = RoleAuthority.of(authorities[i]).mask();
+            mask |= roleMask;
+            allMasked &= roleMask != 0L;
+        }
+        //비트를 받지 못한 역할이 섞여 있으면 마스크만으로는 판단할 수 없으므로 이름 비교 사용
+        return new RoleRequirement(allMasked ? mask : 0L, authorities);
+    }
+
+    /**
+     * @param mask        : 필요한 역할의 비트마스크 (0 이면 이름 비교만 사용)
+     * @param authorities : "ROLE_" 접두사를 붙인 필요 권한 이름
+     */
+    public record RoleRequirement(long mask, String[] authorities) {
+
+        boolean isGranted(Authentication authentication) {
+            //hasRole 과 동일하게 isAuthenticated 는 보지 않고 권한만 확인
+            if (authentication == null) {
+                return false;
+            }
+            if (mask != 0L && authentication.getPrincipal() instanceof AuthenticatedUser user) {
+                return user.hasAnyRole(mask);
+            }
+            //AuthenticatedUser 가 아닌 인증(익명 등) - hasAnyRole 과 같은 방식으로 권한 이름 비교
+            for (GrantedAuthority granted : authentication.getAuthorities()) {
+                String name = granted.getAuthority();
+                for (String required : authorities) {
+                    if (required.equals(name)) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.springboot.security.user.infrastructure.config.security;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 폐기된 jti 용 Bloom filter
+ * - mightContain 이 false 면 확실히 폐기되지 않은 토큰 -> Map 조회 없이 통과
+ * - String.hashCode(문자열에 캐시됨)에서 두 개의 해시를 만들어 k 개의 비트 위치 계산 (double hashing) -> 조회 시 객체 생성 없음
+ * - 삭제는 지원하지 않음 (TokenRevocationStore 가 만료된 항목을 정리할 때 새로 만들어 교체)
+ */
+final class RevocationBloomFilter {
+
+    private static final int HASH_FUNCTIONS = 4;
+
+    private final AtomicLongArray words;
+    private final int bitMask;
+
+    /**
+     * @param bits : 비트 수 (2의 거듭제곱으로 올림)
+     */
+    RevocationBloomFilter(int bits) {
+        int size = Integer.highestOneBit(Math.max(64, bits - 1)) << 1;
+        this.words = new AtomicLongArray(size >>> 6);
+        this.bitMask = size - 1;
+    }
+
+    void add(String value) {
+        int h1 = mix(value.hashCode());
+        int h2 = mix(h1) | 1;
+        for (int i = 0; i < HASH_FUNCTIONS; i++) {
+            int bit = (h1 + i * h2) & bitMask;
+            long mask = 1L << bit;
+            int index = bit >>> 6;
+            long word;
+            do {
+                word = words.get(index);
+                if ((word & mask) != 0) {
+                    break;
+                }
+            } while (!words.compareAndSet(index, word, word | mask));
+        }
+    }
+
+    boolean mightContain(String value) {
+        int h1 = mix(value.hashCode());
+        int h2 = mix(h1) | 1;
+        for (int i = 0; i < HASH_FUNCTIONS; i++) {
+            int bit = (h1 + i * h2) & bitMask;
+            if ((words.get(bit >>> 6) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    //murmur3 finalizer - hashCode 비트를 고르게 섞음
+    private static int mix(int h) {
+        h ^= h >>> 16;
+        h *= 0x85ebca6b;
+        h ^= h >>> 13;
+        h *= 0xc2b2ae35;
+        h ^= h >>> 16;
+        return h;
+    }
+}
@@ -1,9 +1,18 @@
 package com.springboot.security.user.infrastructure.config.security;
 
+import java.lang.reflect.Method;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.StaticMethodMatcherPointcut;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanDefinition;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+import org.springframework.core.annotation.Order;
 import org.springframework.http.HttpMethod;
+import org.springframework.security.authorization.method.AuthorizationInterceptorsOrder;
+import org.springframework.security.authorization.method.AuthorizationManagerBeforeMethodInterceptor;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
@@ -19,10 +28,12 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 public class SecurityConfiguration {
 
     private final JwtTokenProvider jwtTokenProvider;
+    private final PublicRouteTable publicRouteTable;
 
     @Autowired
-    public SecurityConfiguration(JwtTokenProvider jwtTokenProvider) {
+    public SecurityConfiguration(JwtTokenProvider jwtTokenProvider, PublicRouteTable publicRouteTable) {
         this.jwtTokenProvider = jwtTokenProvider;
+        this.publicRouteTable = publicRouteTable;
     }
 
 
@@ -32,6 +43,60 @@ public class SecurityConfiguration {
     }
 
 
+    /**
+     * @RequireRole 메서드 인가
+     * 포인트컷이 프록시 생성 시 역할을 비트마스크로 변환해 두고, 호출 시에는 비트 연산만 수행
+     * static : 설정 클래스(JwtTokenProvider 의존)보다 먼저 만들어져야 하는 인프라 빈
+     */
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    static RequireRoleAuthorizationManager requireRoleAuthorizationManager() {
+        return new RequireRoleAuthorizationManager();
+    }
+
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    static Advisor requireRoleAuthorizationAdvisor(RequireRoleAuthorizationManager requireRoleAuthorizationManager) {
+        StaticMethodMatcherPointcut pointcut = new StaticMethodMatcherPointcut() {
+            @Override
+            public boolean matches(Method method, Class<?> targetClass) {
+                return requireRoleAuthorizationManager.resolve(method, targetClass) != null;
+            }
+        };
+        AuthorizationManagerBeforeMethodInterceptor interceptor =
+            new AuthorizationManagerBeforeMethodInterceptor(pointcut, requireRoleAuthorizationManager);
+        //@PreAuthorize 와 같은 순서에서 실행 (트랜잭션 등 다른 어드바이스보다 먼저)
+        interceptor.setOrder(AuthorizationInterceptorsOrder.PRE_AUTHORIZE.getOrder());
+        return interceptor;
+    }
+
+
+    /**
+     * management 포트(management.server.port) 로 들어온 요청 전용 필터 체인
+     * - 지표 수집(GET /actuator/prometheus)과 상태 확인(GET /actuator/health)만 토큰 없이 허용, 나머지는 거부
+     * - 애플리케이션 포트로 들어온 /actuator/** 요청은 아래 filterChain 에서 인증 필요 (공개 경로 아님)
+     * - management 포트는 Prometheus 등 내부망에서만 접근할 수 있도록 네트워크(방화벽/보안 그룹)에서 막아야 함
+     * - 포트를 따로 지정하지 않으면(-1) 이 체인은 어떤 요청과도 일치하지 않음
+     */
+    @Bean
+    @Order(1)
+    public SecurityFilterChain managementFilterChain(HttpSecurity httpSecurity,
+        @Value("${management.server.port:-1}") int managementPort) throws Exception {
+        httpSecurity
+            .securityMatcher(request -> managementPort > 0 && request.getLocalPort() == managementPort)
+            .csrf(AbstractHttpConfigurer::disable)
+            .sessionManagement(httpSecuritySessionManagementConfigurer ->
+                httpSecuritySessionManagementConfigurer.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+            .httpBasic(AbstractHttpConfigurer::disable)
+            .formLogin(AbstractHttpConfigurer::disable)
+            .authorizeHttpRequests(authorize ->
+                authorize
+                    .requestMatchers(HttpMethod.GET, "/actuator/health", "/actuator/prometheus").permitAll()
+                    .anyRequest().denyAll());
+        return httpSecurity.build();
+    }
+
+
     /**
      * HttpSecurity 기능
      *  - 리소스 접근 권한 설정
@@ -58,15 +123,14 @@ public class SecurityConfiguration {
             //권한 체크 / 경로별 권한 설정
             .authorizeHttpRequests(authorize ->
                 authorize
-                    .requestMatchers("/sign-api/sign-up", "/swagger", "/swagger-ui.html", "/swagger-ui/**", "/api-docs", "/api-docs/**", "/v3/api-docs/**")
-                    .permitAll()
-                    .requestMatchers("/sign-api/sign-in", "/sign-api/sign-up","/sign-api/exception").permitAll()
-                    .requestMatchers(HttpMethod.GET, "/product/**").permitAll()
+                    //공개 경로는 PublicRouteTable 한 곳에서 관리 (JwtAuthenticationFilter 가 같은 표로 토큰 파싱 생략)
+                    .requestMatchers(PublicRouteTable.PUBLIC_PATHS).permitAll()
+                    .requestMatchers(HttpMethod.GET, PublicRouteTable.PUBLIC_GET_PATHS).permitAll()
                     .requestMatchers("**exception**").permitAll()
                     .anyRequest().authenticated())
             .formLogin(AbstractHttpConfigurer::disable) //폼 로그인 비활성화
             //JwtAuthenticationFilter를 UsernamePasswordAuthenticationFilter 앞에 추가
-            .addFilterBefore(new JwtAuthenticationFilter(jwtTokenProvider), UsernamePasswordAuthenticationFilter.class) //필터 배치할 위치 설정
+            .addFilterBefore(new JwtAuthenticationFilter(jwtTokenProvider, publicRouteTable), UsernamePasswordAuthenticationFilter.class) //필터 배치할 위치 설정
             .exceptionHandling((exceptionHandling -> //예외 처리에 사용할 핸들러 지정
                 exceptionHandling
                     .authenticationEntryPoint(new CustomAuthenticationEntryPoint()) //인증이 필요한 요청인데, 사용자가 로그인하지 않았거나 인증되지 않은 상태에서 접근했을 때
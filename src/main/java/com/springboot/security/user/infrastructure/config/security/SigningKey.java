@@ -0,0 +1,32 @@
+package com.springboot.security.user.infrastructure.config.security;
+
+import io.jsonwebtoken.SignatureAlgorithm;
+import java.security.Key;
+import java.security.PublicKey;
+import java.util.Base64;
+
+/**
+ * 키 링에 등록되는 서명 키 하나
+ *
+ * @param kid             : 토큰 헤더의 kid 값
+ * @param algorithm       : 서명 알고리즘 (HS256, RS256, ES256 ...)
+ * @param signingKey      : 서명용 키 (HS 는 비밀키, RS/ES 는 개인키)
+ * @param verificationKey : 검증용 키 (HS 는 비밀키, RS/ES 는 공개키)
+ */
+public record SigningKey(
+    String kid,
+    SignatureAlgorithm algorithm,
+    Key signingKey,
+    Key verificationKey
+) {
+
+    //비대칭 키만 공개키를 외부에 제공할 수 있음 (HS 비밀키는 절대 노출하지 않음)
+    public boolean isAsymmetric() {
+        return verificationKey instanceof PublicKey;
+    }
+
+    //공개키(X.509 DER)를 Base64로 반환, 대칭키면 null
+    public String encodedPublicKey() {
+        return isAsymmetric() ? Base64.getEncoder().encodeToString(verificationKey.getEncoded()) : null;
+    }
+}
@@ -0,0 +1,204 @@
+package com.springboot.security.user.infrastructure.config.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
+import io.jsonwebtoken.security.Keys;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * kid 로 색인된 서명 키 모음
+ *
+ * 1. 서명 : active 키 하나로 서명하고 토큰 헤더에 kid 를 넣음
+ * 2. 검증 : 헤더의 kid 로 키를 찾아 검증 (JwtParser 에 resolver 로 등록 -> 파서는 한 번만 만들고 재사용)
+ *    - kid 가 없는 토큰(키 링 도입 전 발급)은 legacy-kidless.enabled 일 때만 spring.jwt.secret 으로 만든 HS256 키로 검증
+ *      (기본값 : HS256 모드에서만 허용, RS256/ES256 모드에서는 거부). until 이후 또는 retire("legacy") 후에는 거부
+ *    - 헤더의 alg 와 키의 알고리즘이 다르면 거부 (알고리즘 바꿔치기 방지)
+ * 3. 교체 : rotate 로 새 키를 active 로 바꾸고, 이전 키는 retire 전까지 검증용으로 유지 (재시작 불필요)
+ *
+ * 지원 알고리즘 : jjwt 0.11.x 의 SignatureAlgorithm (HS256, RS256, ES256 등)
+ *  - EdDSA 는 jjwt 0.12 부터 지원되므로 현재 버전에서는 사용할 수 없음
+ */
+@Component
+public class SigningKeyRing extends SigningKeyResolverAdapter {
+
+    private final Logger LOGGER = LoggerFactory.getLogger(SigningKeyRing.class);
+
+    //kid 없는 토큰용 키를 retire 할 때 쓰는 이름 (DELETE /sign-api/keys/legacy)
+    public static final String LEGACY_KID = "legacy";
+
+    private final ConcurrentHashMap<String, SigningKey> keys = new ConcurrentHashMap<>();
+    //kid 가 없는 토큰 검증용 - 허용하지 않거나 retire 되면 null
+    private volatile SigningKey legacyKey;
+    //이 시각 이후에는 kid 없는 토큰 거부 (Long.MAX_VALUE 면 만료 없음)
+    private final long legacyUntilMillis;
+    private volatile SigningKey activeKey;
+
+    /**
+     * @param legacyEnabled : kid 없는 토큰 허용 여부 (빈 값이면 HS256 모드에서만 허용)
+     * @param legacyUntil   : kid 없는 토큰 허용 종료 시각 (ISO-8601, 예: 2026-12-31T00:00:00Z), 빈 값이면 만료 없음
+     */
+    public SigningKeyRing(@Value("${spring.jwt.secret}") String secret,
+                          @Value("${spring.jwt.algorithm:HS256}") String algorithm,
+                          @Value("${spring.jwt.kid:default}") String kid,
+                          @Value("${spring.jwt.private-key:}") String privateKey,
+                          @Value("${spring.jwt.public-key:}") String publicKey,
+                          @Value("${spring.jwt.legacy-kidless.enabled:}") String legacyEnabled,
+                          @Value("${spring.jwt.legacy-kidless.until:}") String legacyUntil) {
+        //기존과 같은 방식으로 secret 을 Base64 인코딩한 문자열의 바이트를 HMAC 키로 사용 (이전에 발급한 토큰과 호환)
+        String encodedSecret = Base64.getEncoder().encodeToString(secret.getBytes(StandardCharsets.UTF_8));
+        Key secretKey = Keys.hmacShaKeyFor(encodedSecret.getBytes(StandardCharsets.UTF_8));
+
+        SignatureAlgorithm signatureAlgorithm = resolveAlgorithm(algorithm);
+        boolean legacyAllowed = legacyEnabled.isBlank()
+            ? signatureAlgorithm == SignatureAlgorithm.HS256
+            : Boolean.parseBoolean(legacyEnabled.trim());
+        this.legacyKey = legacyAllowed ? new SigningKey(LEGACY_KID, SignatureAlgorithm.HS256, secretKey, secretKey) : null;
+        this.legacyUntilMillis = legacyUntil.isBlank() ? Long.MAX_VALUE : parseInstant(legacyUntil.trim());
+        if (legacyAllowed) {
+            LOGGER.warn("[SigningKeyRing] kid 없는 토큰을 spring.jwt.secret(HS256) 으로 검증합니다. until : {}",
+                legacyUntil.isBlank() ? "없음" : legacyUntil);
+        }
+        SigningKey initialKey;
+        if (signatureAlgorithm == SignatureAlgorithm.HS256) {
+            initialKey = new SigningKey(kid, SignatureAlgorithm.HS256, secretKey, secretKey);
+        } else if (privateKey.isBlank() || publicKey.isBlank()) {
+            LOGGER.warn("[SigningKeyRing] {} 키가 설정되지 않아 임시 키 쌍을 생성합니다. 재시작하면 기존 토큰은 검증되지 않습니다.", signatureAlgorithm);
+            initialKey = generate(kid, signatureAlgorithm);
+        } else {
+            initialKey = decode(kid, signatureAlgorithm, privateKey, publicKey);
+        }
+        rotate(initialKey);
+        LOGGER.info("[SigningKeyRing] 서명 키 초기화 완료. kid : {}, alg : {}", initialKey.kid(), initialKey.algorithm());
+    }
+
+    public SigningKey active() {
+        return activeKey;
+    }
+
+    //kid 가 null 이면 legacy 키 (허용하지 않거나 만료/retire 되었으면 null -> 토큰 거부)
+    public SigningKey find(String kid) {
+        if (kid != null) {
+            return keys.get(kid);
+        }
+        SigningKey legacy = legacyKey;
+        return legacy != null && System.currentTimeMillis() < legacyUntilMillis ? legacy : null;
+    }
+
+    public List<SigningKey> keys() {
+        return new ArrayList<>(keys.values());
+    }
+
+    //새 키를 등록하고 서명용으로 사용 (이전 키는 검증용으로 남음)
+    public void rotate(SigningKey signingKey) {
+        if (signingKey.signingKey() == null) {
+            throw new IllegalArgumentException("서명용 키가 없는 키는 active 로 사용할 수 없습니다. kid : " + signingKey.kid());
+        }
+        checkKid(signingKey.kid());
+        keys.put(signingKey.kid(), signingKey);
+        activeKey = signingKey;
+    }
+
+    //현재 알고리즘으로 새 키를 만들어 교체 (HS 는 새 랜덤 비밀키)
+    public SigningKey rotate() {
+        SigningKey signingKey = generate(UUID.randomUUID().toString(), activeKey.algorithm());
+        rotate(signingKey);
+        LOGGER.info("[rotate] 서명 키 교체 완료. kid : {}, alg : {}", signingKey.kid(), signingKey.algorithm());
+        return signingKey;
+    }
+
+    //검증용으로만 쓰는 키 등록 (다른 서비스가 발급한 토큰 검증 등)
+    public void register(SigningKey signingKey) {
+        checkKid(signingKey.kid());
+        keys.put(signingKey.kid(), signingKey);
+    }
+
+    //더 이상 해당 kid 로 서명된 토큰을 받지 않음. active 키는 제거할 수 없음
+    //LEGACY_KID 이면 kid 없는 토큰 검증을 중단 (재시작 전까지)
+    public boolean retire(String kid) {
+        if (kid.equals(activeKey.kid())) {
+            throw new IllegalArgumentException("사용 중인 서명 키는 제거할 수 없습니다. kid : " + kid);
+        }
+        if (LEGACY_KID.equals(kid)) {
+            boolean retired = legacyKey != null;
+            legacyKey = null;
+            return retired;
+        }
+        return keys.remove(kid) != null;
+    }
+
+    private static void checkKid(String kid) {
+        if (kid == null || LEGACY_KID.equals(kid)) {
+            throw new IllegalArgumentException("사용할 수 없는 kid 입니다. kid : " + kid);
+        }
+    }
+
+    private static long parseInstant(String value) {
+        try {
+            return Instant.parse(value).toEpochMilli();
+        } catch (DateTimeParseException e) {
+            throw new IllegalStateException("spring.jwt.legacy-kidless.until 은 ISO-8601 시각이어야 합니다. value : " + value, e);
+        }
+    }
+
+    //JwtParser 가 서명 검증 직전에 호출 - 헤더의 kid 로 검증 키 선택
+    @Override
+    public Key resolveSigningKey(JwsHeader header, Claims claims) {
+        SigningKey signingKey = find(header.getKeyId());
+        if (signingKey == null) {
+            throw new JwtException("알 수 없는 kid 입니다. kid : " + header.getKeyId());
+        }
+        if (!signingKey.algorithm().getValue().equals(header.getAlgorithm())) {
+            throw new JwtException("토큰의 alg 와 키의 알고리즘이 다릅니다. alg : " + header.getAlgorithm());
+        }
+        return signingKey.verificationKey();
+    }
+
+    static SignatureAlgorithm resolveAlgorithm(String algorithm) {
+        SignatureAlgorithm signatureAlgorithm = SignatureAlgorithm.forName(algorithm);
+        if (signatureAlgorithm == SignatureAlgorithm.NONE) {
+            throw new IllegalArgumentException("서명 없는 토큰은 사용할 수 없습니다.");
+        }
+        return signatureAlgorithm;
+    }
+
+    static SigningKey generate(String kid, SignatureAlgorithm algorithm) {
+        if (algorithm.isHmac()) {
+            Key secretKey = Keys.secretKeyFor(algorithm);
+            return new SigningKey(kid, algorithm, secretKey, secretKey);
+        }
+        KeyPair keyPair = Keys.keyPairFor(algorithm);
+        return new SigningKey(kid, algorithm, keyPair.getPrivate(), keyPair.getPublic());
+    }
+
+    //Base64 DER (개인키 PKCS#8, 공개키 X.509) 로 키 생성
+    private static SigningKey decode(String kid, SignatureAlgorithm algorithm, String privateKey, String publicKey) {
+        try {
+            KeyFactory keyFactory = KeyFactory.getInstance(algorithm.isEllipticCurve() ? "EC" : "RSA");
+            Key signingKey = keyFactory.generatePrivate(new PKCS8EncodedKeySpec(Base64.getDecoder().decode(privateKey)));
+            Key verificationKey = keyFactory.generatePublic(new X509EncodedKeySpec(Base64.getDecoder().decode(publicKey)));
+            return new SigningKey(kid, algorithm, signingKey, verificationKey);
+        } catch (GeneralSecurityException | IllegalArgumentException e) {
+            throw new IllegalStateException("spring.jwt.private-key / public-key 를 읽을 수 없습니다.", e);
+        }
+    }
+}
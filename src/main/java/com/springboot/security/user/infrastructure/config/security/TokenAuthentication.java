@@ -0,0 +1,62 @@
+package com.springboot.security.user.infrastructure.config.security;
+
+import java.util.Collection;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+
+/**
+ * JWT 로 인증된 요청의 Authentication (불변)
+ * UsernamePasswordAuthenticationToken 과 달리 details/credentials 등 변경 가능한 상태가 없고,
+ * 권한 목록은 AuthenticatedUser 의 공유 목록을 그대로 사용 (복사하지 않음)
+ */
+public final class TokenAuthentication implements Authentication {
+
+    private final AuthenticatedUser principal;
+
+    public TokenAuthentication(AuthenticatedUser principal) {
+        this.principal = principal;
+    }
+
+    @Override
+    public AuthenticatedUser getPrincipal() {
+        return principal;
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return principal.authorities();
+    }
+
+    @Override
+    public Object getCredentials() {
+        return "";
+    }
+
+    @Override
+    public Object getDetails() {
+        return null;
+    }
+
+    @Override
+    public boolean isAuthenticated() {
+        return true;
+    }
+
+    //불변 객체 - 인증 해제가 필요하면 SecurityContext 에서 제거
+    @Override
+    public void setAuthenticated(boolean isAuthenticated) {
+        if (!isAuthenticated) {
+            throw new IllegalArgumentException("TokenAuthentication 은 변경할 수 없습니다.");
+        }
+    }
+
+    @Override
+    public String getName() {
+        return principal.uid();
+    }
+
+    @Override
+    public String toString() {
+        return "TokenAuthentication[uid=" + principal.uid() + ", authorities=" + principal.authorities() + "]";
+    }
+}
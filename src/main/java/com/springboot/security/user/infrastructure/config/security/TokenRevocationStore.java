@@ -0,0 +1,105 @@
+package com.springboot.security.user.infrastructure.config.security;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 만료 전에 폐기된 토큰(jti) 목록
+ *
+ * 1. isRevoked : 모든 요청에서 호출
+ *    - Bloom filter 에 없으면 바로 false (대부분의 요청, 객체 생성/Map 조회 없음)
+ *    - Bloom filter 에 있으면 Map 에서 확인 (오탐 제거)
+ * 2. revoke : 로그아웃/관리자 폐기 시 jti 와 토큰 만료 시각 등록
+ * 3. expire : 토큰 만료 시각 기준 버킷(bucket-millis 단위)으로 묶어두었다가 지난 버킷을 통째로 제거
+ *    -> 메모리는 아직 만료되지 않은 폐기 토큰 수에 비례, 제거 후 Bloom filter 재생성
+ *
+ * 인스턴스 메모리에만 보관하므로 여러 대로 운영하면 각 인스턴스에 폐기 요청이 전달되어야 함
+ */
+@Component
+public class TokenRevocationStore {
+
+    private final Logger LOGGER = LoggerFactory.getLogger(TokenRevocationStore.class);
+
+    //jti -> 토큰 만료 시각
+    private final ConcurrentHashMap<String, Long> revoked = new ConcurrentHashMap<>();
+    //만료 버킷 번호(만료 시각 / bucketMillis) -> 해당 버킷에서 만료되는 jti
+    private final ConcurrentHashMap<Long, Set<String>> expiryBuckets = new ConcurrentHashMap<>();
+    //폐기 등록과 Bloom filter 재생성이 겹치지 않도록 (폐기는 드물게 발생하므로 조회 경로에는 영향 없음)
+    private final ReentrantLock writeLock = new ReentrantLock();
+
+    private final int bloomBits;
+    private final long bucketMillis;
+    private volatile RevocationBloomFilter bloomFilter;
+
+    public TokenRevocationStore(@Value("${spring.jwt.revocation.bloom-bits:1048576}") int bloomBits,
+                                @Value("${spring.jwt.revocation.bucket-millis:60000}") long bucketMillis) {
+        this.bloomBits = bloomBits;
+        this.bucketMillis = bucketMillis;
+        this.bloomFilter = new RevocationBloomFilter(bloomBits);
+    }
+
+    public boolean isRevoked(String jti) {
+        if (jti == null || !bloomFilter.mightContain(jti)) {
+            return false;
+        }
+        return revoked.containsKey(jti);
+    }
+
+    public void revoke(String jti, long expiresAtMillis) {
+        if (jti == null || expiresAtMillis < System.currentTimeMillis()) {
+            return; //이미 만료된 토큰은 등록할 필요 없음
+        }
+        writeLock.lock();
+        try {
+            revoked.put(jti, expiresAtMillis);
+            expiryBuckets.computeIfAbsent(expiresAtMillis / bucketMillis, bucket -> ConcurrentHashMap.newKeySet()).add(jti);
+            bloomFilter.add(jti);
+        } finally {
+            writeLock.unlock();
+        }
+        LOGGER.info("[revoke] 토큰 폐기 등록. jti : {}", jti);
+    }
+
+    public int size() {
+        return revoked.size();
+    }
+
+    //현재 시각보다 이전 버킷(= 토큰이 모두 만료된 버킷) 제거 후 Bloom filter 재생성
+    @Scheduled(fixedDelayString = "${spring.jwt.revocation.bucket-millis:60000}")
+    public void expire() {
+        long currentBucket = System.currentTimeMillis() / bucketMillis;
+        int removed = 0;
+        writeLock.lock();
+        try {
+            Iterator<Map.Entry<Long, Set<String>>> iterator = expiryBuckets.entrySet().iterator();
+            while (iterator.hasNext()) {
+                Map.Entry<Long, Set<String>> bucket = iterator.next();
+                if (bucket.getKey() < currentBucket) {
+                    for (String jti : bucket.getValue()) {
+                        revoked.remove(jti);
+                    }
+                    removed += bucket.getValue().size();
+                    iterator.remove();
+                }
+            }
+            if (removed > 0) {
+                RevocationBloomFilter rebuilt = new RevocationBloomFilter(bloomBits);
+                revoked.keySet().forEach(rebuilt::add);
+                bloomFilter = rebuilt;
+            }
+        } finally {
+            writeLock.unlock();
+        }
+        if (removed > 0) {
+            LOGGER.info("[expire] 만료된 폐기 토큰 정리 : {}, 남은 폐기 토큰 : {}", removed, revoked.size());
+        }
+    }
+}
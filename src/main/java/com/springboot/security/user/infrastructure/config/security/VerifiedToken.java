@@ -0,0 +1,30 @@
+package com.springboot.security.user.infrastructure.config.security;
+
+import java.util.List;
+import org.springframework.security.core.GrantedAuthority;
+
+/**
+ * 서명 검증이 끝난 토큰의 클레임
+ * JwtTokenProvider.parseToken 에서 한 번만 만들어 필터가 유효성/만료/sub/roles 를 모두 이 객체로 처리
+ *
+ * @param jti             : 토큰 id (폐기 목록 조회용, 이전에 발급된 토큰은 null)
+ * @param subject         : 회원 구별 정보(sub)
+ * @param roles           : 권한 목록(roles)
+ * @param authorities     : roles 를 GrantedAuthority 로 변환한 목록 (RoleAuthority 가 공유하는 불변 목록)
+ * @param roleMask        : roles 의 권한 비트마스크 (RoleAuthority.maskOf)
+ * @param expiresAtMillis : 만료 시각(exp, epoch millis)
+ */
+public record VerifiedToken(
+    String jti,
+    String subject,
+    List<String> roles,
+    List<GrantedAuthority> authorities,
+    long roleMask,
+    long expiresAtMillis
+) {
+
+    //토큰의 만료기간 확인 (만료 시각이 현재보다 이전이면 만료)
+    public boolean isExpired(long nowMillis) {
+        return expiresAtMillis < nowMillis;
+    }
+}
@@ -0,0 +1,104 @@
+package com.springboot.security.user.infrastructure.config.security;
+
+import com.springboot.security.common.cache.BoundedExpiringCache;
+import com.springboot.security.common.cache.CacheStats;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 서명 검증이 끝난 토큰 캐시
+ * 같은 X-AUTH-TOKEN 을 만료 전까지 계속 재사용하므로, 한 번 검증한 결과를 보관해
+ * 다음 요청부터는 HMAC 검증과 Base64/JSON 디코딩을 건너뜀
+ *
+ * - 키 : 토큰 문자열의 SHA-256 다이제스트 (토큰 원문을 메모리에 보관하지 않고, 키 크기도 고정)
+ * - 만료 : 토큰의 exp 와 설정된 TTL 중 빠른 시각
+ * - 크기 : spring.jwt.cache.max-size 를 넘으면 제거
+ * - spring.jwt.cache.enabled=false 이면 다이제스트 계산도 하지 않음 (매 요청 서명 검증)
+ */
+@Component
+public class VerifiedTokenCache {
+
+    //MessageDigest는 thread-safe 하지 않으므로 호출마다 원본을 복제해 사용
+    //(ThreadLocal 은 가상 스레드에서는 요청마다 새 스레드라 재사용되지 않고 스레드 수만큼 쌓이기만 함)
+    private static final MessageDigest SHA_256 = sha256();
+
+    private final BoundedExpiringCache<TokenDigest, VerifiedToken> cache;
+    private final long ttlMillis;
+    private final boolean enabled;
+
+    public VerifiedTokenCache(@Value("${spring.jwt.cache.enabled:true}") boolean enabled,
+                              @Value("${spring.jwt.cache.max-size:10000}") int maxSize,
+                              @Value("${spring.jwt.cache.ttl-millis:300000}") long ttlMillis) {
+        this.enabled = enabled;
+        this.cache = new BoundedExpiringCache<>(maxSize);
+        this.ttlMillis = ttlMillis;
+    }
+
+    public VerifiedToken get(String token) {
+        if (!enabled || token == null) {
+            return null;
+        }
+        return cache.get(digest(token));
+    }
+
+    public void put(String token, VerifiedToken verifiedToken) {
+        if (!enabled) {
+            return;
+        }
+        long expiresAtMillis = Math.min(verifiedToken.expiresAtMillis(), System.currentTimeMillis() + ttlMillis);
+        cache.put(digest(token), verifiedToken, expiresAtMillis);
+    }
+
+    public void invalidate(String token) {
+        if (enabled && token != null) {
+            cache.invalidate(digest(token));
+        }
+    }
+
+    //서명 키를 폐기하는 등 이미 검증한 결과를 더 이상 믿을 수 없을 때 사용
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    private static TokenDigest digest(String token) {
+        byte[] hash = newDigest().digest(token.getBytes(StandardCharsets.UTF_8));
+        return new TokenDigest(toLong(hash, 0), toLong(hash, 8), toLong(hash, 16), toLong(hash, 24));
+    }
+
+    //clone 은 알고리즘 조회(Provider 탐색) 없이 초기 상태를 복사 - 지원하지 않는 Provider 면 새로 생성
+    private static MessageDigest newDigest() {
+        try {
+            return (MessageDigest) SHA_256.clone();
+        } catch (CloneNotSupportedException e) {
+            return sha256();
+        }
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static long toLong(byte[] bytes, int offset) {
+        long value = 0;
+        for (int i = offset; i < offset + 8; i++) {
+            value = (value << 8) | (bytes[i] & 0xFF);
+        }
+        return value;
+    }
+
+    //SHA-256(32 byte)을 long 4개로 보관 - record 라서 equals/hashCode 가 값 기준
+    private record TokenDigest(long h0, long h1, long h2, long h3) {
+
+    }
+}
@@ -0,0 +1,44 @@
+package com.springboot.security.user.infrastructure.repository;
+
+import com.springboot.security.user.domain.entity.RefreshToken;
+import com.springboot.security.user.domain.repository.RefreshTokenRepository;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+@Component
+@RequiredArgsConstructor
+public class RefreshTokenRepositoryAdapter implements RefreshTokenRepository {
+
+    private final RefreshTokenJpaRepository refreshTokenJpaRepository;
+
+    @Override
+    public RefreshToken save(RefreshToken refreshToken) {
+        return refreshTokenJpaRepository.save(refreshToken);
+    }
+
+    @Override
+    public Optional<RefreshToken> findByTokenHash(String tokenHash) {
+        return refreshTokenJpaRepository.findByTokenHash(tokenHash);
+    }
+
+    @Transactional
+    @Override
+    public boolean markUsed(Long id) {
+        return refreshTokenJpaRepository.markUsed(id) == 1;
+    }
+
+    @Transactional
+    @Override
+    public int revokeFamily(String familyId) {
+        return refreshTokenJpaRepository.revokeFamily(familyId);
+    }
+
+    @Transactional
+    @Override
+    public int deleteExpired(LocalDateTime now) {
+        return refreshTokenJpaRepository.deleteExpired(now);
+    }
+}
@@ -0,0 +1,77 @@
+package com.springboot.security.user.infrastructure.repository;
+
+import com.springboot.security.common.cache.BoundedExpiringCache;
+import com.springboot.security.common.cache.CacheStats;
+import com.springboot.security.user.domain.entity.User;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * uid -> User 캐시 (UserRepositoryAdapter.getByUid 앞단)
+ * 토큰 인증 때마다 loadUserByUsername 으로 p_user + user_roles 를 조회하던 것을 캐시에서 처리
+ *
+ * - TTL(spring.user.cache.ttl-millis) + 크기 제한(spring.user.cache.max-size)
+ * - 같은 uid 로 동시에 들어온 miss 는 한 번의 쿼리로 합침
+ * - UserRepositoryAdapter.save 에서 해당 uid 를 무효화 (권한 변경 등이 바로 반영됨)
+ * - JPA 엔티티(User)를 그대로 담지 않고 불변 스냅샷(Snapshot)만 보관
+ *   조회할 때마다 스냅샷에서 분리된(detached) 새 User 를 만들어 반환 -> 호출한 쪽이 값을 바꿔도 캐시는 그대로
+ */
+@Component
+public class UserPrincipalCache {
+
+    private final BoundedExpiringCache<String, Snapshot> cache;
+    private final long ttlMillis;
+    private final boolean enabled;
+
+    public UserPrincipalCache(@Value("${spring.user.cache.enabled:true}") boolean enabled,
+                              @Value("${spring.user.cache.max-size:1000}") int maxSize,
+                              @Value("${spring.user.cache.ttl-millis:60000}") long ttlMillis) {
+        this.enabled = enabled;
+        this.cache = new BoundedExpiringCache<>(maxSize);
+        this.ttlMillis = ttlMillis;
+    }
+
+    public User getOrLoad(String uid, Function<String, User> loader) {
+        if (!enabled || uid == null) {
+            return loader.apply(uid);
+        }
+        Snapshot snapshot = cache.getOrLoad(uid, key -> Snapshot.of(loader.apply(key)), ttlMillis);
+        return snapshot == null ? null : snapshot.toUser();
+    }
+
+    public void invalidate(String uid) {
+        if (uid != null) {
+            cache.invalidate(uid);
+        }
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    //인증에 필요한 값만 복사해 둔 불변 스냅샷 (roles 도 불변 목록으로 복사)
+    private record Snapshot(Long id, String uid, String password, String name, List<String> roles) {
+
+        private static Snapshot of(User user) {
+            if (user == null) {
+                return null; //캐시하지 않음
+            }
+            return new Snapshot(user.getId(), user.getUid(), user.getPassword(), user.getName(),
+                List.copyOf(user.getRoles()));
+        }
+
+        //엔티티의 roles 는 변경 가능한 목록이어야 하므로 새 ArrayList 로 복사
+        private User toUser() {
+            return User.builder()
+                .id(id)
+                .uid(uid)
+                .password(password)
+                .name(name)
+                .roles(new ArrayList<>(roles))
+                .build();
+        }
+    }
+}
@@ -1,23 +1,52 @@
 package com.springboot.security.user.infrastructure.repository;
 
+import com.springboot.security.common.metrics.OperationTimers;
 import com.springboot.security.user.domain.entity.User;
 import com.springboot.security.user.domain.repository.UserRepository;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.stereotype.Component;
 
 @Component
-@RequiredArgsConstructor
 public class UserRepositoryAdapter implements UserRepository {
 
+    //repository.calls{repository=user, method=...} 타이머 (getByUid 는 캐시 적중 포함)
+    private enum Operation {
+        GET_BY_UID, SAVE
+    }
+
     private final UserJpaRepository userJpaRepository;
+    private final UserPrincipalCache userPrincipalCache;
+    private final OperationTimers<Operation> timers;
+
+    public UserRepositoryAdapter(UserJpaRepository userJpaRepository, UserPrincipalCache userPrincipalCache,
+        MeterRegistry meterRegistry) {
+        this.userJpaRepository = userJpaRepository;
+        this.userPrincipalCache = userPrincipalCache;
+        this.timers = new OperationTimers<>(meterRegistry, "repository.calls", "리포지터리 호출 시간",
+            Operation.class, "repository", "user");
+    }
 
+    //캐시에 없을 때만 DB 조회 (동시에 같은 uid 조회가 몰리면 한 번만 조회)
     @Override
     public User getByUid(String uid) {
-        return userJpaRepository.getByUid(uid);
+        long start = System.nanoTime();
+        try {
+            return userPrincipalCache.getOrLoad(uid, userJpaRepository::getByUid);
+        } finally {
+            timers.record(Operation.GET_BY_UID, start);
+        }
     }
 
+    //저장 후 캐시 무효화 -> 다음 조회 때 변경된 정보(권한 등)를 다시 읽음
     @Override
     public User save(User user) {
-        return userJpaRepository.save(user);
+        long start = System.nanoTime();
+        try {
+            User savedUser = userJpaRepository.save(user);
+            userPrincipalCache.invalidate(savedUser.getUid());
+            return savedUser;
+        } finally {
+            timers.record(Operation.SAVE, start);
+        }
     }
 }
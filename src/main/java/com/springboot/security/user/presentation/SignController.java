@@ -1,18 +1,31 @@
 package com.springboot.security.user.presentation;
 
+import com.springboot.security.common.security.RequireRole;
 import com.springboot.security.user.application.SignService;
+import com.springboot.security.user.application.command.LogoutCommand;
+import com.springboot.security.user.application.command.RefreshCommand;
 import com.springboot.security.user.application.command.SignInCommand;
 import com.springboot.security.user.application.command.SignUpCommand;
+import com.springboot.security.user.application.exception.InvalidRefreshTokenException;
+import com.springboot.security.user.application.exception.LoginThrottledException;
+import com.springboot.security.user.application.exception.PasswordHashingBusyException;
+import com.springboot.security.user.infrastructure.config.security.JwtTokenProvider;
+import com.springboot.security.user.presentation.dto.request.LogoutRequest;
+import com.springboot.security.user.presentation.dto.request.RefreshRequest;
+import com.springboot.security.user.presentation.dto.request.RevokeTokenRequest;
 import com.springboot.security.user.presentation.dto.request.SignInRequest;
 import com.springboot.security.user.presentation.dto.request.SignUpRequest;
 import com.springboot.security.user.presentation.dto.response.SignInResult;
 import com.springboot.security.user.presentation.dto.response.SignUpResult;
+import jakarta.servlet.http.HttpServletRequest;
+import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.Map;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -26,20 +39,28 @@ import org.springframework.web.bind.annotation.RestController;
 public class SignController {
 
     private final Logger LOGGER = LoggerFactory.getLogger(SignController.class);
+    //429 응답 본문은 항상 같으므로 미리 인코딩해 두고 재사용 (공격 중 대량으로 발생)
+    private static final byte[] TOO_MANY_REQUESTS_BODY =
+        "{\"error type\":\"Too Many Requests\",\"code\":\"429\",\"message\":\"로그인 시도가 너무 많습니다.\"}"
+            .getBytes(StandardCharsets.UTF_8);
     private final SignService signService;
+    private final JwtTokenProvider jwtTokenProvider;
 
-    public SignController(SignService signService) {
+    public SignController(SignService signService, JwtTokenProvider jwtTokenProvider) {
         this.signService = signService;
+        this.jwtTokenProvider = jwtTokenProvider;
     }
 
     @PostMapping(value = "/sign-in")
-    public SignInResult signIn(@RequestBody SignInRequest signInRequest) throws Exception {
+    public SignInResult signIn(@RequestBody SignInRequest signInRequest, HttpServletRequest request) throws Exception {
         LOGGER.info("[signIn] 로그인을 시도하고 있습니다. id : {}. pw : **** ", signInRequest.id());
 
         //Command 객체 생성
         SignInCommand signInCommand = new SignInCommand(
             signInRequest.id(),
-            signInRequest.password()
+            signInRequest.password(),
+            //프록시 뒤라면 server.forward-headers-strategy(native) 로 신뢰하는 프록시의 X-Forwarded-For 가 반영된 주소
+            request.getRemoteAddr()
         );
 
         //service 호출
@@ -51,6 +72,29 @@ public class SignController {
         return signInResult;
     }
 
+    //access 토큰 갱신 - 비밀번호 검증 없이 리프레시 토큰 사용 (사용한 리프레시 토큰은 폐기되고 새로 발급)
+    @PostMapping(value = "/refresh")
+    public SignInResult refresh(@RequestBody RefreshRequest refreshRequest) {
+        LOGGER.info("[refresh] 토큰 갱신을 시도하고 있습니다.");
+        return signService.refresh(new RefreshCommand(refreshRequest.refreshToken()));
+    }
+
+    //로그아웃 - 현재 access 토큰과 (전달되면) 리프레시 토큰 폐기
+    @PostMapping(value = "/logout")
+    public SignUpResult logout(HttpServletRequest request,
+        @RequestBody(required = false) LogoutRequest logoutRequest) {
+        String refreshToken = logoutRequest != null ? logoutRequest.refreshToken() : null;
+        return signService.logout(new LogoutCommand(jwtTokenProvider.resolveToken(request), refreshToken));
+    }
+
+    //관리자 토큰 폐기
+    @RequireRole("ADMIN")
+    @PostMapping(value = "/revoke")
+    public SignUpResult revokeToken(@RequestBody RevokeTokenRequest revokeTokenRequest) {
+        LOGGER.info("[revokeToken] 관리자 토큰 폐기 요청");
+        return signService.revokeToken(revokeTokenRequest.token());
+    }
+
     @PostMapping(value = "/sign-up")
     public SignUpResult signUp(@RequestBody SignUpRequest signUpRequest) {
         LOGGER.info("[signUp] 회원가입을 수행합니다. id : {}, password : ****, name : {}, role : {}", signUpRequest.id(), signUpRequest.name(), signUpRequest.role());
@@ -72,6 +116,43 @@ public class SignController {
         throw new RuntimeException("접근이 금지되었습니다.");
     }
 
+    @ExceptionHandler(InvalidRefreshTokenException.class)
+    public ResponseEntity<Map<String, String>> invalidRefreshTokenExceptionHandler(InvalidRefreshTokenException e) {
+        HttpStatus httpStatus = HttpStatus.UNAUTHORIZED;
+
+        LOGGER.info("[refresh] 리프레시 토큰 거부, {}", e.getMessage());
+
+        Map<String , String> map = new HashMap<>();
+        map.put("error type", httpStatus.getReasonPhrase());
+        map.put("code", "401");
+        map.put("message", e.getMessage());
+        return new ResponseEntity<>(map, new HttpHeaders(), httpStatus);
+    }
+
+    @ExceptionHandler(LoginThrottledException.class)
+    public ResponseEntity<byte[]> loginThrottledExceptionHandler(LoginThrottledException e) {
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+            .header(HttpHeaders.RETRY_AFTER, Long.toString(e.getRetryAfterSeconds()))
+            .contentType(MediaType.APPLICATION_JSON)
+            .body(TOO_MANY_REQUESTS_BODY);
+    }
+
+    //해시 대기열이 가득 찬 경우 - 요청 스레드를 붙잡지 않고 바로 503 반환
+    @ExceptionHandler(PasswordHashingBusyException.class)
+    public ResponseEntity<Map<String, String>> passwordHashingBusyExceptionHandler(PasswordHashingBusyException e) {
+        HttpHeaders responseHeaders = new HttpHeaders();
+        responseHeaders.add(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()));
+        HttpStatus httpStatus = HttpStatus.SERVICE_UNAVAILABLE;
+
+        LOGGER.warn("[passwordHashingBusy] 비밀번호 해시 대기열 초과");
+
+        Map<String , String> map = new HashMap<>();
+        map.put("error type", httpStatus.getReasonPhrase());
+        map.put("code", "503");
+        map.put("message", e.getMessage());
+        return new ResponseEntity<>(map, responseHeaders, httpStatus);
+    }
+
     @ExceptionHandler(RuntimeException.class)
     public ResponseEntity<Map<String, String>> ExceptionHandler(RuntimeException e) {
         HttpHeaders responseHeaders = new HttpHeaders();
@@ -0,0 +1,94 @@
+package com.springboot.security.user.presentation;
+
+import com.springboot.security.common.security.RequireRole;
+import com.springboot.security.user.infrastructure.config.security.SigningKey;
+import com.springboot.security.user.infrastructure.config.security.SigningKeyRing;
+import com.springboot.security.user.infrastructure.config.security.VerifiedTokenCache;
+import com.springboot.security.user.presentation.dto.response.SigningKeyResult;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 서명 키 관리
+ * - GET : 토큰 검증용 공개키 목록 (다른 서비스/엣지 노드가 직접 토큰을 검증할 때 사용, HS 비밀키는 노출하지 않음)
+ * - POST /rotate : 새 키로 교체 (재시작 없이)
+ * - DELETE /{kid} : 이전 키 폐기 (legacy : kid 없는 토큰 검증 중단, active 키는 400)
+ */
+@RestController
+@RequestMapping("/sign-api/keys")
+public class SigningKeyController {
+
+    private final Logger LOGGER = LoggerFactory.getLogger(SigningKeyController.class);
+    private final SigningKeyRing signingKeyRing;
+    private final VerifiedTokenCache verifiedTokenCache;
+
+    public SigningKeyController(SigningKeyRing signingKeyRing, VerifiedTokenCache verifiedTokenCache) {
+        this.signingKeyRing = signingKeyRing;
+        this.verifiedTokenCache = verifiedTokenCache;
+    }
+
+    @GetMapping
+    public List<SigningKeyResult> getPublicKeys() {
+        SigningKey activeKey = signingKeyRing.active();
+        return signingKeyRing.keys().stream()
+            .filter(SigningKey::isAsymmetric)
+            .map(signingKey -> toResult(signingKey, activeKey))
+            .toList();
+    }
+
+    @RequireRole("ADMIN")
+    @PostMapping("/rotate")
+    public SigningKeyResult rotate() {
+        SigningKey signingKey = signingKeyRing.rotate();
+        LOGGER.info("[rotate] 서명 키 교체. kid : {}", signingKey.kid());
+        return toResult(signingKey, signingKey);
+    }
+
+    @RequireRole("ADMIN")
+    @DeleteMapping("/{kid}")
+    public ResponseEntity<String> retire(@PathVariable String kid) {
+        if (!signingKeyRing.retire(kid)) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body("Signing key not found");
+        }
+        //폐기된 키로 검증해 둔 토큰이 캐시에 남지 않도록 비움
+        verifiedTokenCache.invalidateAll();
+        LOGGER.info("[retire] 서명 키 폐기. kid : {}", kid);
+        return ResponseEntity.status(HttpStatus.OK).body("Retire signing key successfully");
+    }
+
+    //사용 중인(active) 키 폐기 요청 등
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<Map<String, String>> illegalArgumentExceptionHandler(IllegalArgumentException e) {
+        HttpStatus httpStatus = HttpStatus.BAD_REQUEST;
+
+        LOGGER.info("[signingKey] 잘못된 서명 키 요청, {}", e.getMessage());
+
+        Map<String , String> map = new HashMap<>();
+        map.put("error type", httpStatus.getReasonPhrase());
+        map.put("code", "400");
+        map.put("message", e.getMessage());
+        return new ResponseEntity<>(map, new HttpHeaders(), httpStatus);
+    }
+
+    private SigningKeyResult toResult(SigningKey signingKey, SigningKey activeKey) {
+        return new SigningKeyResult(
+            signingKey.kid(),
+            signingKey.algorithm().getValue(),
+            signingKey.encodedPublicKey(),
+            signingKey.kid().equals(activeKey.kid())
+        );
+    }
+}
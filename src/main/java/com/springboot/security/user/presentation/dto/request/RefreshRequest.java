@@ -0,0 +1,7 @@
+package com.springboot.security.user.presentation.dto.request;
+
+public record RefreshRequest(
+    String refreshToken
+) {
+
+}
@@ -0,0 +1,10 @@
+package com.springboot.security.user.presentation.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+
+public record RevokeTokenRequest(
+    @NotBlank
+    String token
+) {
+
+}
@@ -1,6 +1,9 @@
 package com.springboot.security.user.presentation.dto.response;
 
 
+import com.springboot.security.common.json.JsonEncodable;
+import com.springboot.security.common.json.JsonStrings;
+import java.nio.charset.StandardCharsets;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -10,6 +13,16 @@ import lombok.ToString;
 @NoArgsConstructor
 @AllArgsConstructor
 @ToString
-public class EntryPointErrorResponse {
+public class EntryPointErrorResponse implements JsonEncodable {
     private String msg;
+
+    //{"msg":"..."}
+    @Override
+    public byte[] toJsonBytes() {
+        StringBuilder builder = new StringBuilder(16 + (msg == null ? 0 : msg.length()));
+        builder.append("{\"msg\":");
+        JsonStrings.appendQuoted(builder, msg);
+        builder.append('}');
+        return builder.toString().getBytes(StandardCharsets.UTF_8);
+    }
 }
@@ -1,8 +1,30 @@
 package com.springboot.security.user.presentation.dto.response;
 
+import com.springboot.security.common.json.JsonEncodable;
+import com.springboot.security.common.json.JsonStrings;
+import java.nio.charset.StandardCharsets;
+
 public record SignInResult(
     SignUpResult signUpResult,
-    String token
-) {
+    String token,
+    String refreshToken
+) implements JsonEncodable {
 
+    //{"signUpResult":{...},"token":"...","refreshToken":"..."}
+    @Override
+    public byte[] toJsonBytes() {
+        StringBuilder builder = new StringBuilder(256 + (token == null ? 0 : token.length()));
+        builder.append("{\"signUpResult\":");
+        if (signUpResult == null) {
+            builder.append("null");
+        } else {
+            signUpResult.appendTo(builder);
+        }
+        builder.append(",\"token\":");
+        JsonStrings.appendQuoted(builder, token);
+        builder.append(",\"refreshToken\":");
+        JsonStrings.appendQuoted(builder, refreshToken);
+        builder.append('}');
+        return builder.toString().getBytes(StandardCharsets.UTF_8);
+    }
 }
@@ -1,8 +1,27 @@
 package com.springboot.security.user.presentation.dto.response;
 
+import com.springboot.security.common.json.JsonEncodable;
+import com.springboot.security.common.json.JsonStrings;
+import java.nio.charset.StandardCharsets;
+
 public record SignUpResult(
     boolean success,
     int code,
-    String msg  ) {
+    String msg  ) implements JsonEncodable {
+
+    @Override
+    public byte[] toJsonBytes() {
+        StringBuilder builder = new StringBuilder(64);
+        appendTo(builder);
+        return builder.toString().getBytes(StandardCharsets.UTF_8);
+    }
 
+    //{"success":true,"code":0,"msg":"..."}
+    void appendTo(StringBuilder builder) {
+        builder.append("{\"success\":").append(success)
+            .append(",\"code\":").append(code)
+            .append(",\"msg\":");
+        JsonStrings.appendQuoted(builder, msg);
+        builder.append('}');
+    }
 }
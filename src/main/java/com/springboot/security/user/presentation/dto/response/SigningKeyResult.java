@@ -0,0 +1,10 @@
+package com.springboot.security.user.presentation.dto.response;
+
+public record SigningKeyResult(
+    String kid,
+    String algorithm,
+    String publicKey,
+    boolean active
+) {
+
+}
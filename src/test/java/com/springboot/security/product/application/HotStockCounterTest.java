@@ -0,0 +1,109 @@
+package com.springboot.security.product.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.springboot.security.product.application.exception.InsufficientStockException;
+import com.springboot.security.product.domain.repository.ProductRepository;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.RepeatedTest;
+
+/**
+ * 인기 제품 등록/해제(enable/disable)와 예약이 동시에 일어날 때
+ * DB 재고가 음수가 되지 않고, 성공한 예약 수가 처음 재고와 정확히 같아야 함 (초과 판매/유실 없음)
+ * DB 는 메모리 값 하나로 대신함 (조건부 차감, 무조건 더하기 - 실제 update 문과 같은 동작)
+ */
+class HotStockCounterTest {
+
+    private static final Long NUMBER = 1L;
+    private static final int STOCK = 5_000;
+    private static final int THREADS = 8;
+
+    @RepeatedTest(10)
+    void reserveDuringEnableAndDisableNeverOversells() throws Exception {
+        AtomicInteger databaseStock = new AtomicInteger(STOCK);
+        AtomicInteger minimumStock = new AtomicInteger(STOCK);
+        ProductRepository productRepository = inMemoryStock(databaseStock, minimumStock);
+
+        HotStockCounter hotStockCounter = new HotStockCounter(productRepository,
+            new ProductSnapshotCache(false, 1, 1), 4, List.of());
+        ProductStockService productStockService = new ProductStockService(productRepository, hotStockCounter,
+            new ProductSnapshotCache(false, 1, 1), new StockReservationStore(STOCK, 60_000L));
+
+        AtomicLong reserved = new AtomicLong();
+        CountDownLatch ready = new CountDownLatch(THREADS);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                futures.add(executor.submit(() -> {
+                    ready.countDown();
+                    while (true) {
+                        try {
+                            productStockService.reserve(NUMBER, 1, "user");
+                            reserved.incrementAndGet();
+                        } catch (InsufficientStockException e) {
+                            return null;
+                        }
+                    }
+                }));
+            }
+            ready.await();
+
+            //예약이 진행되는 동안 등록/반영/해제를 반복
+            while (!allDone(futures)) {
+                hotStockCounter.enable(NUMBER);
+                hotStockCounter.flush();
+                hotStockCounter.disable(NUMBER);
+            }
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        hotStockCounter.disable(NUMBER);
+
+        assertThat(minimumStock.get()).isGreaterThanOrEqualTo(0);
+        assertThat(databaseStock.get()).isZero();
+        assertThat(reserved.get()).isEqualTo(STOCK);
+    }
+
+    private static boolean allDone(List<Future<?>> futures) {
+        return futures.stream().allMatch(Future::isDone);
+    }
+
+    private static ProductRepository inMemoryStock(AtomicInteger stock, AtomicInteger minimum) {
+        ProductRepository productRepository = mock(ProductRepository.class);
+        when(productRepository.selectStock(anyLong())).thenAnswer(invocation -> stock.get());
+        when(productRepository.decreaseStockIfEnough(anyLong(), anyInt())).thenAnswer(invocation -> {
+            int quantity = invocation.getArgument(1);
+            while (true) {
+                int current = stock.get();
+                if (current < quantity) {
+                    return false;
+                }
+                if (stock.compareAndSet(current, current - quantity)) {
+                    return true;
+                }
+            }
+        });
+        when(productRepository.addStock(anyLong(), anyInt())).thenAnswer(invocation -> {
+            int updated = stock.addAndGet(invocation.getArgument(1));
+            minimum.accumulateAndGet(updated, Math::min);
+            return true;
+        });
+        return productRepository;
+    }
+}
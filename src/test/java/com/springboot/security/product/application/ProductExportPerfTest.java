@@ -0,0 +1,146 @@
+package com.springboot.security.product.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.springboot.security.product.infrastructure.repository.ProductRepositoryAdapter;
+import com.springboot.security.product.infrastructure.search.ProductSearchIndex;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.AbstractList;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 전체 내보내기 - 내장 DB(H2) 에서 처리량(rows/s)과 최대 힙 증가량 확인
+ * 행 수의 일정 간격마다 GC 후 사용 중인 힙을 측정 -> 내보내기 중에 살아있는 객체가 행 수에 비례해 늘지 않아야 함
+ *
+ * System.gc() 와 힙 사용량에 의존해 환경마다 결과가 달라지므로 기본 test 에서는 제외
+ * ./gradlew perfTest 로 실행
+ */
+@Tag("perf")
+@DataJpaTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:export-perf;LAZY_QUERY_EXECUTION=TRUE;DB_CLOSE_DELAY=-1",
+    "spring.datasource.driver-class-name=org.h2.Driver",
+    "spring.datasource.username=sa",
+    "spring.datasource.password=",
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.jpa.show-sql=false",
+    "spring.jpa.properties.hibernate.format_sql=false"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({ProductRepositoryAdapter.class, ProductSearchIndex.class, SimpleMeterRegistry.class})
+class ProductExportPerfTest {
+
+    private final Logger LOGGER = LoggerFactory.getLogger(ProductExportPerfTest.class);
+
+    private static final int ROWS = 200_000;
+    //전체를 엔티티로 불러오면 이보다 훨씬 큼 (엔티티 + 스냅샷 + EntityEntry)
+    private static final long MAX_HEAP_GROWTH_BYTES = 32L * 1024 * 1024;
+
+    @Autowired
+    private ProductRepositoryAdapter productRepositoryAdapter;
+
+    @Autowired
+    private ProductSearchIndex productSearchIndex;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private ProductService productService;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.batchUpdate("insert into product (number, name, price, stock) values (?, ?, ?, ?)",
+            new AbstractList<Object[]>() {
+                @Override
+                public Object[] get(int index) {
+                    return new Object[]{index + 1L, "product, \"" + (index + 1) + "\"", 1000 + index % 100, index % 50};
+                }
+
+                @Override
+                public int size() {
+                    return ROWS;
+                }
+            });
+        productService = new ProductService(productRepositoryAdapter,
+            new ProductSnapshotCache(false, 1, 1), productSearchIndex, transactionTemplate);
+    }
+
+    @Test
+    void exportStreamsAllRowsWithFlatHeap() throws Exception {
+        for (ProductExportFormat format : ProductExportFormat.values()) {
+            HeapSamplingOutputStream outputStream = new HeapSamplingOutputStream();
+
+            long start = System.nanoTime();
+            long rows = productService.exportProducts(format, outputStream);
+            long elapsedNanos = System.nanoTime() - start;
+
+            long peakGrowth = outputStream.peakUsed - outputStream.baselineUsed;
+            LOGGER.info("[{}] rows : {}, bytes : {}, {} rows/s, peak heap growth : {} KB",
+                format, rows, outputStream.bytes, rows * 1_000_000_000L / elapsedNanos, peakGrowth / 1024);
+
+            assertThat(rows).isEqualTo(ROWS);
+            assertThat(outputStream.lines).isEqualTo(format == ProductExportFormat.CSV ? ROWS + 1 : ROWS);
+            assertThat(peakGrowth).isLessThan(MAX_HEAP_GROWTH_BYTES);
+        }
+    }
+
+    //받은 내용은 버리고 줄 수/바이트 수만 셈, 4MB 마다 GC 후 사용 중인 힙을 기록
+    private static class HeapSamplingOutputStream extends OutputStream {
+        private static final long SAMPLE_BYTES = 4L * 1024 * 1024;
+        private final MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        private final long baselineUsed;
+        private long peakUsed;
+        private long bytes;
+        private long lines;
+
+        HeapSamplingOutputStream() {
+            this.baselineUsed = usedAfterGc();
+            this.peakUsed = baselineUsed;
+        }
+
+        @Override
+        public void write(int b) {
+            count(b == '\n' ? 1 : 0, 1);
+        }
+
+        @Override
+        public void write(byte[] buffer, int offset, int length) {
+            int newLines = 0;
+            for (int i = offset; i < offset + length; i++) {
+                if (buffer[i] == '\n') {
+                    newLines++;
+                }
+            }
+            count(newLines, length);
+        }
+
+        private void count(int newLines, int length) {
+            lines += newLines;
+            long before = bytes;
+            bytes += length;
+            if (before / SAMPLE_BYTES != bytes / SAMPLE_BYTES) {
+                peakUsed = Math.max(peakUsed, usedAfterGc());
+            }
+        }
+
+        private long usedAfterGc() {
+            System.gc();
+            return memory.getHeapMemoryUsage().getUsed();
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.springboot.security.product.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.springboot.security.product.infrastructure.repository.ProductRepositoryAdapter;
+import com.springboot.security.product.infrastructure.search.ProductSearchIndex;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.OutputStream;
+import java.util.AbstractList;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 전체 내보내기 - 내장 DB(H2) 의 모든 행이 빠짐없이, 나누어 흘려보내지는지 확인
+ * 출력은 버리고 행 수/줄 수/flush 횟수만 셈 (처리량/힙 측정은 ProductExportPerfTest, perf 태그)
+ */
+@DataJpaTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:export;LAZY_QUERY_EXECUTION=TRUE;DB_CLOSE_DELAY=-1",
+    "spring.datasource.driver-class-name=org.h2.Driver",
+    "spring.datasource.username=sa",
+    "spring.datasource.password=",
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.jpa.show-sql=false",
+    "spring.jpa.properties.hibernate.format_sql=false"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({ProductRepositoryAdapter.class, ProductSearchIndex.class, SimpleMeterRegistry.class})
+class ProductExportTest {
+
+    private static final int ROWS = 20_000;
+    //ProductService 기본값 (spring.product.export.flush-rows)
+    private static final int FLUSH_ROWS = 1000;
+
+    @Autowired
+    private ProductRepositoryAdapter productRepositoryAdapter;
+
+    @Autowired
+    private ProductSearchIndex productSearchIndex;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private ProductService productService;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.batchUpdate("insert into product (number, name, price, stock) values (?, ?, ?, ?)",
+            new AbstractList<Object[]>() {
+                @Override
+                public Object[] get(int index) {
+                    return new Object[]{index + 1L, "product, \"" + (index + 1) + "\"", 1000 + index % 100, index % 50};
+                }
+
+                @Override
+                public int size() {
+                    return ROWS;
+                }
+            });
+        productService = new ProductService(productRepositoryAdapter,
+            new ProductSnapshotCache(false, 1, 1), productSearchIndex, transactionTemplate);
+    }
+
+    @Test
+    void exportStreamsAllRows() throws Exception {
+        for (ProductExportFormat format : ProductExportFormat.values()) {
+            CountingOutputStream outputStream = new CountingOutputStream();
+
+            long rows = productService.exportProducts(format, outputStream);
+
+            assertThat(rows).isEqualTo(ROWS);
+            assertThat(outputStream.lines).isEqualTo(format == ProductExportFormat.CSV ? ROWS + 1 : ROWS);
+            //끝에 한 번에 쓰지 않고 FLUSH_ROWS 행마다 내보냄
+            assertThat(outputStream.flushes).isGreaterThanOrEqualTo(ROWS / FLUSH_ROWS);
+        }
+    }
+
+    //받은 내용은 버리고 줄 수와 flush 횟수만 셈
+    private static class CountingOutputStream extends OutputStream {
+        private long lines;
+        private long flushes;
+
+        @Override
+        public void write(int b) {
+            if (b == '\n') {
+                lines++;
+            }
+        }
+
+        @Override
+        public void write(byte[] buffer, int offset, int length) {
+            for (int i = offset; i < offset + length; i++) {
+                if (buffer[i] == '\n') {
+                    lines++;
+                }
+            }
+        }
+
+        @Override
+        public void flush() {
+            flushes++;
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.springboot.security.product.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.springboot.security.product.presentation.dto.response.ImportRowErrorDto;
+import com.springboot.security.product.presentation.dto.response.ProductImportResultDto;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 가져오기 - 잘못된 행은 그 행만 실패 처리하고 나머지는 계속 읽어야 함
+ * (닫히지 않은 따옴표가 파일 끝까지 한 행으로 이어지지 않는지, null JSON 줄이 가져오기 전체를 멈추지 않는지)
+ */
+class ProductImportServiceTest {
+
+    //짧게 잡아 닫히지 않은 따옴표가 몇 줄 만에 상한에 걸리도록
+    private static final int MAX_RECORD_LENGTH = 40;
+
+    private ProductImportService productImportService;
+
+    @BeforeEach
+    void setUp() {
+        ProductService productService = mock(ProductService.class);
+        when(productService.insertProductChunk(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+        productImportService = new ProductImportService(productService, new ObjectMapper(), 500, 100, 0,
+            MAX_RECORD_LENGTH);
+    }
+
+    @Test
+    void unbalancedQuoteFailsOneRowAndResyncs() throws Exception {
+        StringBuilder csv = new StringBuilder("name,price,stock\n\"broken,1000,1\n");
+        for (int i = 0; i < 10; i++) {
+            csv.append('p').append(i).append(",100,1\n");
+        }
+
+        ProductImportResultDto result = productImportService.importProducts(ProductExportFormat.CSV, stream(csv.toString()));
+
+        //"broken 행이 p0, p1 을 삼킨 뒤 p2 에서 상한(40자)을 넘음 -> 한 행 실패, p3 부터 다시 읽음
+        assertThat(result.getFailed()).isEqualTo(1);
+        assertThat(result.getSucceeded()).isEqualTo(7);
+        assertThat(result.getErrors()).extracting(ImportRowErrorDto::getLine).containsExactly(2L);
+    }
+
+    @Test
+    void overlongLineFailsOnlyThatRow() throws Exception {
+        String csv = "name,price,stock\n" + "x".repeat(1000) + ",100,1\r\nok,100,1\r\n";
+
+        ProductImportResultDto result = productImportService.importProducts(ProductExportFormat.CSV, stream(csv));
+
+        assertThat(result.getFailed()).isEqualTo(1);
+        assertThat(result.getSucceeded()).isEqualTo(1);
+    }
+
+    @Test
+    void nullJsonLineIsRowError() throws Exception {
+        String ndjson = "null\n{\"name\":\"ok\",\"price\":100,\"stock\":1}\n";
+
+        ProductImportResultDto result = productImportService.importProducts(ProductExportFormat.NDJSON, stream(ndjson));
+
+        assertThat(result.getFailed()).isEqualTo(1);
+        assertThat(result.getSucceeded()).isEqualTo(1);
+        assertThat(result.getErrors()).extracting(ImportRowErrorDto::getLine).containsExactly(1L);
+    }
+
+    private static ByteArrayInputStream stream(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
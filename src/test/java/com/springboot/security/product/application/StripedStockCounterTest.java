@@ -0,0 +1,68 @@
+package com.springboot.security.product.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.RepeatedTest;
+
+/**
+ * 인기 제품 카운터 - 등록 해제(closeAndDrain)와 예약/반환이 동시에 일어날 때
+ * APPLIED 로 끝난 변경은 가져간 차감량에 정확히 한 번 포함되고, DRAINING 은 포함되지 않아야 함
+ * (DRAINING 을 받은 호출자는 해제가 끝난 뒤 DB 로 다시 처리하므로 포함되면 이중 차감/반환)
+ */
+class StripedStockCounterTest {
+
+    private static final int THREADS = 8;
+
+    @RepeatedTest(20)
+    void closeAndDrainCountsEveryAppliedChangeExactlyOnce() throws Exception {
+        StripedStockCounter counter = new StripedStockCounter(1_000_000, 4);
+        AtomicLong appliedNetDecrease = new AtomicLong();
+        CountDownLatch ready = new CountDownLatch(THREADS);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                futures.add(executor.submit(() -> {
+                    ready.countDown();
+                    for (int i = 0; ; i++) {
+                        int quantity = 1 + i % 3;
+                        boolean release = i % 4 == 3;
+                        StripedStockCounter.Result result = release
+                            ? counter.release(quantity)
+                            : counter.tryReserve(quantity);
+                        if (result == StripedStockCounter.Result.DRAINING) {
+                            return;
+                        }
+                        if (result == StripedStockCounter.Result.APPLIED) {
+                            appliedNetDecrease.addAndGet(release ? -quantity : quantity);
+                        }
+                    }
+                }));
+            }
+            ready.await();
+            //작업이 진행 중일 때 닫음
+            while (appliedNetDecrease.get() < 10_000) {
+                Thread.onSpinWait();
+            }
+            long drained = counter.closeAndDrain();
+
+            for (Future<?> future : futures) {
+                future.get(10, TimeUnit.SECONDS);
+            }
+            assertThat(drained).isEqualTo(appliedNetDecrease.get());
+            assertThat(counter.drainPending()).isZero();
+            assertThat(counter.tryReserve(1)).isEqualTo(StripedStockCounter.Result.DRAINING);
+            assertThat(counter.release(1)).isEqualTo(StripedStockCounter.Result.DRAINING);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
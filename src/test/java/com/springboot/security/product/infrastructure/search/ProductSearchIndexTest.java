@@ -0,0 +1,60 @@
+package com.springboot.security.product.infrastructure.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.springboot.security.product.domain.repository.ProductSearchHit;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 검색 결과 순서 (마지막 토큰 정확 일치 > 접두어 일치, 그 안에서 이름 길이, number 순)와
+ * 짧은 접두어라도 max-scan 이상 훑지 않는지 확인
+ */
+class ProductSearchIndexTest {
+
+    @Test
+    void exactTokenFirstThenShorterNames() {
+        ProductSearchIndex index = new ProductSearchIndex(10_000);
+        index.put(1L, "apple pie");
+        index.put(2L, "applesauce");
+        index.put(3L, "apple");
+        index.put(4L, "green apple");
+        index.put(5L, "banana");
+
+        assertThat(numbers(index.search("app", 10))).containsExactly(3L, 1L, 2L, 4L);
+        assertThat(numbers(index.search("apple", 10))).containsExactly(3L, 1L, 4L, 2L);
+        assertThat(numbers(index.search("apple", 2))).containsExactly(3L, 1L);
+        assertThat(numbers(index.search("green app", 10))).containsExactly(4L);
+    }
+
+    @Test
+    void removedAndRenamedProductsLeaveThePostings() {
+        ProductSearchIndex index = new ProductSearchIndex(10_000);
+        index.put(1L, "apple");
+        index.put(2L, "apricot");
+        index.put(1L, "banana");
+        index.remove(2L);
+
+        assertThat(index.search("ap", 10)).isEmpty();
+        assertThat(numbers(index.search("ban", 10))).containsExactly(1L);
+    }
+
+    @Test
+    void shortPrefixStopsAtScanBudget() {
+        int maxScan = 100;
+        ProductSearchIndex index = new ProductSearchIndex(maxScan);
+        for (long number = 1; number <= 5_000; number++) {
+            index.put(number, "a" + number);
+        }
+
+        //모든 제품이 "a" 로 시작하지만 max-scan 개 이하만 훑음
+        List<ProductSearchHit> hits = index.search("a", 1_000);
+        assertThat(hits).hasSizeLessThanOrEqualTo(maxScan);
+        //limit 이 작으면 앞에서부터 limit 개만 읽고 멈춤 (이름이 가장 짧은 a1 ~ a9)
+        assertThat(numbers(index.search("a", 9))).containsExactly(1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L);
+    }
+
+    private static List<Long> numbers(List<ProductSearchHit> hits) {
+        return hits.stream().map(ProductSearchHit::number).toList();
+    }
+}
@@ -0,0 +1,99 @@
+package com.springboot.security.user.infrastructure.config.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.springboot.security.common.security.OptionalAuthentication;
+import com.springboot.security.common.security.RequireRole;
+import jakarta.annotation.security.RolesAllowed;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.security.Principal;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.access.annotation.Secured;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.method.HandlerMethod;
+
+/**
+ * 토큰을 원하는 핸들러 판별 - 보안 애노테이션이나 인증 정보 파라미터가 하나라도 있으면 토큰을 파싱해야 함
+ */
+class PublicRouteScannerTest {
+
+    @Test
+    void plainHandlerDoesNotWantAuthentication() throws Exception {
+        assertThat(PublicRouteScanner.wantsAuthentication(handler(Handlers.class, "plain"))).isFalse();
+    }
+
+    @Test
+    void securityAnnotationsWantAuthentication() throws Exception {
+        assertThat(PublicRouteScanner.wantsAuthentication(handler(Handlers.class, "requireRole"))).isTrue();
+        assertThat(PublicRouteScanner.wantsAuthentication(handler(Handlers.class, "optional"))).isTrue();
+        assertThat(PublicRouteScanner.wantsAuthentication(handler(Handlers.class, "preAuthorize"))).isTrue();
+        assertThat(PublicRouteScanner.wantsAuthentication(handler(Handlers.class, "secured"))).isTrue();
+        assertThat(PublicRouteScanner.wantsAuthentication(handler(Handlers.class, "rolesAllowed"))).isTrue();
+        assertThat(PublicRouteScanner.wantsAuthentication(handler(Handlers.class, "metaAnnotated"))).isTrue();
+    }
+
+    @Test
+    void principalParameterWantsAuthentication() throws Exception {
+        assertThat(PublicRouteScanner.wantsAuthentication(
+            handler(Handlers.class, "principal", Principal.class))).isTrue();
+        assertThat(PublicRouteScanner.wantsAuthentication(
+            handler(Handlers.class, "authenticationPrincipal", Object.class))).isTrue();
+    }
+
+    @Test
+    void classLevelAnnotationWantsAuthentication() throws Exception {
+        assertThat(PublicRouteScanner.wantsAuthentication(handler(AdminHandlers.class, "plain"))).isTrue();
+    }
+
+    private static HandlerMethod handler(Class<?> type, String name, Class<?>... parameterTypes) throws Exception {
+        return new HandlerMethod(type.getDeclaredConstructor().newInstance(), type.getMethod(name, parameterTypes));
+    }
+
+    @Retention(RetentionPolicy.RUNTIME)
+    @PreAuthorize("hasRole('ADMIN')")
+    @interface AdminOnly {
+    }
+
+    static class Handlers {
+        public void plain() {
+        }
+
+        @RequireRole("ADMIN")
+        public void requireRole() {
+        }
+
+        @OptionalAuthentication
+        public void optional() {
+        }
+
+        @PreAuthorize("isAuthenticated()")
+        public void preAuthorize() {
+        }
+
+        @Secured("ROLE_ADMIN")
+        public void secured() {
+        }
+
+        @RolesAllowed("ADMIN")
+        public void rolesAllowed() {
+        }
+
+        @AdminOnly
+        public void metaAnnotated() {
+        }
+
+        public void principal(Principal principal) {
+        }
+
+        public void authenticationPrincipal(@AuthenticationPrincipal Object user) {
+        }
+    }
+
+    @PreAuthorize("hasRole('ADMIN')")
+    static class AdminHandlers {
+        public void plain() {
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.springboot.security.user.infrastructure.config.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+/**
+ * 공개 경로 표 - 토큰 파싱을 생략하는 경우는 "공개 경로 + 토큰이 필요 없다고 확인된 핸들러" 뿐이어야 함
+ */
+class PublicRouteTableTest {
+
+    private PublicRouteTable publicRouteTable;
+
+    @BeforeEach
+    void setUp() {
+        publicRouteTable = new PublicRouteTable();
+        publicRouteTable.setHandlerRoutes(
+            List.of(
+                new PublicRouteTable.Route("GET", "/product"),
+                new PublicRouteTable.Route("GET", "/product/{number}"),
+                new PublicRouteTable.Route("PUT", "/product"),
+                new PublicRouteTable.Route(null, "/sign-api/sign-in"),
+                new PublicRouteTable.Route("GET", "/actuator/health"),
+                new PublicRouteTable.Route("GET", "/actuator/prometheus")),
+            List.of(
+                new PublicRouteTable.Route("GET", "/product/export")));
+    }
+
+    @Test
+    void skipsAnonymousHandlerOnPublicRoute() {
+        assertThat(publicRouteTable.skipsAuthentication(request("GET", "/product"))).isTrue();
+        assertThat(publicRouteTable.skipsAuthentication(request("GET", "/product/1"))).isTrue();
+        assertThat(publicRouteTable.skipsAuthentication(request("POST", "/sign-api/sign-in"))).isTrue();
+    }
+
+    @Test
+    void parsesTokenForHandlerThatWantsAuthentication() {
+        //GET /product/export 는 GET /product/{number} 와도 일치하지만 토큰이 필요한 쪽이 우선
+        assertThat(publicRouteTable.skipsAuthentication(request("GET", "/product/export"))).isFalse();
+    }
+
+    @Test
+    void parsesTokenOutsidePublicRoutes() {
+        //핸들러가 토큰을 원하지 않아도 공개 경로가 아니면 파싱
+        assertThat(publicRouteTable.skipsAuthentication(request("PUT", "/product"))).isFalse();
+        assertThat(publicRouteTable.skipsAuthentication(request("POST", "/product"))).isFalse();
+    }
+
+    @Test
+    void parsesTokenForUnknownHandler() {
+        //공개 경로지만 스캔한 핸들러가 아님 (다른 HandlerMapping, 정적 리소스 등) -> fail closed
+        assertThat(publicRouteTable.skipsAuthentication(request("GET", "/product/1/reviews"))).isFalse();
+        assertThat(publicRouteTable.skipsAuthentication(request("GET", "/sign-api/keys"))).isFalse();
+    }
+
+    @Test
+    void actuatorIsNotPublic() {
+        //actuator 는 management 포트 전용 필터 체인에서만 허용
+        assertThat(PublicRouteTable.PUBLIC_PATHS).noneMatch(path -> path.startsWith("/actuator"));
+        assertThat(PublicRouteTable.PUBLIC_GET_PATHS).noneMatch(path -> path.startsWith("/actuator"));
+        assertThat(publicRouteTable.skipsAuthentication(request("GET", "/actuator/health"))).isFalse();
+        assertThat(publicRouteTable.skipsAuthentication(request("GET", "/actuator/prometheus"))).isFalse();
+    }
+
+    @Test
+    void parsesTokenForAmbiguousPath() {
+        //인코딩/경로 파라미터는 정규화하지 않고 평소처럼 토큰 처리
+        assertThat(publicRouteTable.skipsAuthentication(request("GET", "/product/%2e%2e/admin"))).isFalse();
+        assertThat(publicRouteTable.skipsAuthentication(request("GET", "/product;jsessionid=1"))).isFalse();
+    }
+
+    @Test
+    void stripsContextPath() {
+        MockHttpServletRequest request = request("GET", "/api/product/1");
+        request.setContextPath("/api");
+        assertThat(publicRouteTable.skipsAuthentication(request)).isTrue();
+    }
+
+    @Test
+    void parsesTokenBeforeHandlersAreScanned() {
+        assertThat(new PublicRouteTable().skipsAuthentication(request("GET", "/product"))).isFalse();
+    }
+
+    private static MockHttpServletRequest request(String method, String uri) {
+        return new MockHttpServletRequest(method, uri);
+    }
+}